@@ -0,0 +1,54 @@
+package com.thoughtworks.datetime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+	private final FiniteLocalDate date = LocalDate.on(2010, 1, 31);
+	private final FiniteLocalDate later = LocalDate.on(2011, 7, 4);
+	private final LocalDateTime dateTime = LocalDateTime.at(2010, 1, 31, 12, 0, 0);
+	private int days = 1;
+
+	@Benchmark
+	public FiniteLocalDate plusDays() {
+		days = days % 400 + 1;
+		return date.plusDays(days);
+	}
+
+	@Benchmark
+	public FiniteLocalDate plusMonths() {
+		days = days % 400 + 1;
+		return date.plusMonths(days);
+	}
+
+	@Benchmark
+	public LocalDateTime dateTimePlusDays() {
+		days = days % 400 + 1;
+		return dateTime.plusDays(days);
+	}
+
+	@Benchmark
+	public Duration durationUntil() {
+		return date.durationUntil(later);
+	}
+
+	@Benchmark
+	public int daysUntil() {
+		return dateTime.daysUntil(later);
+	}
+}
@@ -0,0 +1,66 @@
+package com.thoughtworks.datetime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComparisonBenchmark {
+	private final FiniteLocalDate date = LocalDate.on(2010, 3, 14);
+	private final FiniteLocalDate other = LocalDate.on(2010, 3, 15);
+	private final LocalDate infinite = LocalDate.infinite();
+	private final LocalDateTime dateTime = LocalDateTime.at(2010, 3, 14, 12, 0, 0);
+
+	@Benchmark
+	public boolean isAfterFinite() {
+		return date.isAfter(other);
+	}
+
+	@Benchmark
+	public boolean isAfterInfinite() {
+		return date.isAfter(infinite);
+	}
+
+	@Benchmark
+	public boolean isAfterDateTime() {
+		return date.isAfter(dateTime);
+	}
+
+	@Benchmark
+	public int compareToFinite() {
+		return date.compareTo(other);
+	}
+
+	@Benchmark
+	public int compareToInfinite() {
+		return date.compareTo(infinite);
+	}
+
+	@Benchmark
+	public int infiniteCompareToFinite() {
+		return infinite.compareTo(date);
+	}
+
+	@Benchmark
+	public boolean isBeforeNow() {
+		return date.isBeforeNow();
+	}
+
+	@Benchmark
+	public boolean equalsFinite() {
+		return date.equals(other);
+	}
+}
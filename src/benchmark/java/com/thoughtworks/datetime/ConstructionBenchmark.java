@@ -0,0 +1,51 @@
+package com.thoughtworks.datetime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructionBenchmark {
+	private final java.util.Date date = new java.util.Date(1268596800000L);
+	private int day = 1;
+
+	@Benchmark
+	public FiniteLocalDate on() {
+		day = day % 28 + 1;
+		return LocalDate.on(2010, 3, day);
+	}
+
+	@Benchmark
+	public FiniteLocalDate onDate() {
+		return LocalDate.onDate(date);
+	}
+
+	@Benchmark
+	public FiniteLocalDate today() {
+		return LocalDate.today();
+	}
+
+	@Benchmark
+	public LocalDateTime at() {
+		day = day % 28 + 1;
+		return LocalDateTime.at(2010, 3, day, 12, 30, 15);
+	}
+
+	@Benchmark
+	public LocalDateTime now() {
+		return LocalDateTime.now();
+	}
+}
@@ -0,0 +1,79 @@
+package com.thoughtworks.datetime;
+
+/**
+ * Reports the heap retained per instance of each value type, by filling a
+ * preallocated array with a million distinct instances and comparing the used
+ * heap before and after. Run with "ant footprint"; the figures depend on the
+ * JVM's object header size and whether compressed references are enabled.
+ */
+public final class FootprintBenchmark {
+	private static final int COUNT = 1000000;
+
+	private abstract static class Factory {
+		private final String name;
+
+		Factory(final String name) {
+			this.name = name;
+		}
+
+		abstract Object create(int i);
+	}
+
+	private FootprintBenchmark() {
+	}
+
+	public static void main(final String[] args) {
+		final FiniteLocalDate date = LocalDate.on(2000, 1, 1);
+		final Factory[] factories = { new Factory("FiniteLocalDate") {
+			@Override
+			Object create(final int i) {
+				return date.plusDays(i % 100000);
+			}
+		}, new Factory("LocalDateTime") {
+			@Override
+			Object create(final int i) {
+				return LocalDateTime.at(2000 + i % 100, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 59);
+			}
+		}, new Factory("Duration") {
+			@Override
+			Object create(final int i) {
+				// beyond the cached range, so each call allocates
+				return Duration.ofDays(4000 + i);
+			}
+		}, new Factory("Period") {
+			@Override
+			Object create(final int i) {
+				return Period.of(date, Duration.ofDays(i % 1000));
+			}
+		} };
+		for (final Factory factory : factories) {
+			// the first round warms up the factory and its classes
+			measure(factory);
+			System.out.printf("%-16s %6.1f bytes per instance%n", factory.name, measure(factory));
+		}
+	}
+
+	private static double measure(final Factory factory) {
+		final Object[] instances = new Object[COUNT];
+		final long before = usedHeap();
+		for (int i = 0; i < COUNT; i++) {
+			instances[i] = factory.create(i);
+		}
+		final long after = usedHeap();
+		if (instances[COUNT - 1] == null) {
+			throw new IllegalStateException();
+		}
+		return (after - before) / (double) COUNT;
+	}
+
+	private static long usedHeap() {
+		final Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+
+}
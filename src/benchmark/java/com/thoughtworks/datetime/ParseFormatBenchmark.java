@@ -0,0 +1,67 @@
+package com.thoughtworks.datetime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseFormatBenchmark {
+	private final FiniteLocalDate date = LocalDate.on(2010, 3, 14);
+	private final LocalDateTime dateTime = LocalDateTime.at(2010, 3, 14, 15, 9, 26);
+	private final StringBuilder out = new StringBuilder();
+
+	@Benchmark
+	public LocalDate parseIsoDate() {
+		return LocalDate.parseDate("2010-03-14", "yyyy-MM-dd");
+	}
+
+	@Benchmark
+	public LocalDate parseDate() {
+		return LocalDate.parseDate("14/03/2010", "dd/MM/yyyy");
+	}
+
+	@Benchmark
+	public LocalDateTime parseIsoDateTime() {
+		return LocalDateTime.parseDateTime("2010-03-14T15:09:26", "yyyy-MM-dd'T'HH:mm:ss");
+	}
+
+	@Benchmark
+	public LocalDateTime parseDateTime() {
+		return LocalDateTime.parseDateTime("14/03/2010 15:09:26", "dd/MM/yyyy HH:mm:ss");
+	}
+
+	@Benchmark
+	public String format() {
+		return date.format("dd MMM yyyy");
+	}
+
+	@Benchmark
+	public StringBuilder formatTo() {
+		out.setLength(0);
+		date.formatTo(out, "dd MMM yyyy");
+		return out;
+	}
+
+	@Benchmark
+	public String dateToString() {
+		return date.toString();
+	}
+
+	@Benchmark
+	public String dateTimeToString() {
+		return dateTime.toString();
+	}
+}
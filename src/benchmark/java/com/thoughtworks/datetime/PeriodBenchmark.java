@@ -0,0 +1,58 @@
+package com.thoughtworks.datetime;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PeriodBenchmark {
+	private final Period period = Period.of(LocalDate.on(2010, 1, 1), LocalDate.on(2010, 12, 31));
+	private final Period other = Period.of(LocalDate.on(2010, 6, 1), Duration.ofDays(30));
+	private final Period open = Period.of(LocalDate.on(2010, 6, 1), LocalDate.infinite());
+	private final Set<FiniteLocalDate> hashSet = new HashSet<FiniteLocalDate>();
+	private final LocalDateSet dateSet = new LocalDateSet();
+
+	@Setup
+	public void addDates() {
+		for (int i = 0; i < 300; i++) {
+			hashSet.add(LocalDate.on(2010, 1, 10).plusDays(i));
+		}
+		dateSet.addAll(hashSet);
+	}
+
+	@Benchmark
+	public boolean isOverlapping() {
+		return period.isOverlapping(other);
+	}
+
+	@Benchmark
+	public boolean isOverlappingOpenEnded() {
+		return period.isOverlapping(open);
+	}
+
+	@Benchmark
+	public boolean containsAllHashSet() {
+		return period.containsAll(hashSet);
+	}
+
+	@Benchmark
+	public boolean containsAllLocalDateSet() {
+		return period.containsAll(dateSet);
+	}
+}
@@ -0,0 +1,45 @@
+package com.thoughtworks.datetime;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only view of ASCII bytes in a {@link ByteBuffer} as characters,
+ * using absolute reads so the buffer's position is left untouched.
+ */
+final class AsciiCharSequence implements CharSequence {
+	private final ByteBuffer buffer;
+	private final int start;
+	private final int end;
+
+	AsciiCharSequence(final ByteBuffer buffer, final int start, final int end) {
+		if (start < 0 || start > end || end > buffer.limit()) {
+			throw new IndexOutOfBoundsException("range [" + start + "," + end + ") outside buffer limit "
+					+ buffer.limit());
+		}
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+	}
+
+	public char charAt(final int index) {
+		return (char) (buffer.get(start + index) & 0xFF);
+	}
+
+	public int length() {
+		return end - start;
+	}
+
+	public CharSequence subSequence(final int from, final int to) {
+		return new AsciiCharSequence(buffer, start + from, start + to);
+	}
+
+	@Override
+	public String toString() {
+		final char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = charAt(i);
+		}
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.thoughtworks.datetime;
+
+import java.util.Set;
+
+/**
+ * Working days over a finite range of dates, where weekends and the given
+ * holidays are not working days. Each day's working-day count is worked out
+ * up front, so every query takes constant time. Dates outside the range are
+ * rejected with an {@link IllegalArgumentException}. Instances are immutable
+ * and thread-safe.
+ */
+public final class BusinessCalendar {
+	private final int firstEpochDay;
+	private final int lastEpochDay;
+	private final long[] nonWorking;
+	// workingBefore[i] counts the working days before firstEpochDay + i
+	private final int[] workingBefore;
+	private final int[] workingDays;
+
+	public BusinessCalendar(final Period range, final Set<? extends LocalDate> holidays) {
+		if (range.endEpochDay() == EpochDays.INFINITE) {
+			throw new IllegalArgumentException("range must be finite");
+		}
+		firstEpochDay = range.startEpochDay();
+		lastEpochDay = range.endEpochDay();
+		final int length = lastEpochDay - firstEpochDay + 1;
+		nonWorking = new long[(length + 63) >>> 6];
+		for (int i = 0; i < length; i++) {
+			if (EpochDays.dayOfWeek(firstEpochDay + i) >= 6) {
+				nonWorking[i >>> 6] |= 1L << i;
+			}
+		}
+		for (final LocalDate holiday : holidays) {
+			if (!holiday.isInfinite()) {
+				final int epochDay = holiday.toFiniteLocalDate().toEpochDay();
+				if (epochDay >= firstEpochDay && epochDay <= lastEpochDay) {
+					nonWorking[(epochDay - firstEpochDay) >>> 6] |= 1L << (epochDay - firstEpochDay);
+				}
+			}
+		}
+		workingBefore = new int[length + 1];
+		for (int i = 0; i < length; i++) {
+			workingBefore[i + 1] = workingBefore[i] + ((nonWorking[i >>> 6] & (1L << i)) == 0 ? 1 : 0);
+		}
+		workingDays = new int[workingBefore[length]];
+		for (int i = 0, count = 0; i < length; i++) {
+			if (workingBefore[i + 1] > workingBefore[i]) {
+				workingDays[count++] = firstEpochDay + i;
+			}
+		}
+	}
+
+	public boolean isBusinessDay(final FiniteLocalDate date) {
+		final int index = indexOf(date);
+		return (nonWorking[index >>> 6] & (1L << index)) == 0;
+	}
+
+	/**
+	 * Returns the working day that is the given number of working days after
+	 * date, which need not be a working day itself.
+	 */
+	public FiniteLocalDate plusBusinessDays(final FiniteLocalDate date, final int days) {
+		return plusBusinessDays(date, (long) days);
+	}
+
+	/**
+	 * Returns the working day that is the given number of working days before
+	 * date, which need not be a working day itself.
+	 */
+	public FiniteLocalDate minusBusinessDays(final FiniteLocalDate date, final int days) {
+		return plusBusinessDays(date, -(long) days);
+	}
+
+	// counts in long so that negating Integer.MIN_VALUE cannot overflow
+	private FiniteLocalDate plusBusinessDays(final FiniteLocalDate date, final long days) {
+		if (days == 0) {
+			return date;
+		}
+		if (days > 0) {
+			return workingDay(workingBefore[indexOf(date) + 1] + days - 1);
+		}
+		return workingDay(workingBefore[indexOf(date)] + days);
+	}
+
+	/**
+	 * Counts the working days from start, inclusive, to end, exclusive; the
+	 * count is negative when end is before start.
+	 */
+	public int businessDaysBetween(final FiniteLocalDate start, final FiniteLocalDate end) {
+		return workingBefore[boundaryIndexOf(end)] - workingBefore[boundaryIndexOf(start)];
+	}
+
+	private FiniteLocalDate workingDay(final long index) {
+		if (index < 0 || index >= workingDays.length) {
+			throw new IllegalArgumentException("result is outside the calendar range");
+		}
+		return FiniteLocalDate.of(workingDays[(int) index]);
+	}
+
+	private int indexOf(final FiniteLocalDate date) {
+		final int epochDay = date.toEpochDay();
+		if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+			throw new IllegalArgumentException(date + " is outside the calendar range");
+		}
+		return epochDay - firstEpochDay;
+	}
+
+	private int boundaryIndexOf(final FiniteLocalDate date) {
+		final int epochDay = date.toEpochDay();
+		if (epochDay < firstEpochDay || epochDay > lastEpochDay + 1) {
+			throw new IllegalArgumentException(date + " is outside the calendar range");
+		}
+		return epochDay - firstEpochDay;
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.thoughtworks.datetime;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes ASCII date fields straight from a heap, direct or memory-mapped
+ * {@link ByteBuffer} without decoding them into Strings first. All offsets
+ * are absolute and the buffer's position is never changed. Fields that are
+ * empty or fail to parse decode to {@link DateParser#INVALID}.
+ */
+public final class ByteBufferDateDecoder {
+	private final DateParser parser;
+
+	private ByteBufferDateDecoder(final DateParser parser) {
+		this.parser = parser;
+	}
+
+	public static ByteBufferDateDecoder forPattern(final String pattern) {
+		return new ByteBufferDateDecoder(DateParser.forPattern(pattern));
+	}
+
+	public int decodeEpochDay(final ByteBuffer buffer, final int offset, final int length) {
+		return parser.parseEpochDay(new AsciiCharSequence(buffer, 0, buffer.limit()), offset, offset + length);
+	}
+
+	public FiniteLocalDate decodeLocalDate(final ByteBuffer buffer, final int offset, final int length) {
+		final int epochDay = decodeEpochDay(buffer, offset, length);
+		return epochDay == DateParser.INVALID ? null : FiniteLocalDate.of(epochDay);
+	}
+
+	/**
+	 * Decodes fixed-width fields starting at each of the given offsets, returning
+	 * the number of fields that could not be decoded.
+	 */
+	public int decodeFixedWidth(final ByteBuffer buffer, final int[] offsets, final int length,
+			final int[] epochDays) {
+		final AsciiCharSequence text = new AsciiCharSequence(buffer, 0, buffer.limit());
+		int failures = 0;
+		for (int i = 0; i < offsets.length; i++) {
+			epochDays[i] = parser.parseEpochDay(text, offsets[i], offsets[i] + length);
+			if (epochDays[i] == DateParser.INVALID) {
+				failures++;
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Decodes the fields between <code>start</code> and <code>end</code>
+	 * separated by <code>delimiter</code> into <code>epochDays</code> from
+	 * <code>index</code> on, returning the number of fields decoded. Decoding
+	 * stops early once <code>epochDays</code> is full.
+	 */
+	public int decodeDelimited(final ByteBuffer buffer, final int start, final int end, final byte delimiter,
+			final int[] epochDays, final int index) {
+		final AsciiCharSequence text = new AsciiCharSequence(buffer, 0, end);
+		int count = 0;
+		int fieldStart = start;
+		for (int i = start; i <= end && index + count < epochDays.length; i++) {
+			if (i == end || buffer.get(i) == delimiter) {
+				epochDays[index + count++] = parser.parseEpochDay(text, fieldStart, i);
+				fieldStart = i + 1;
+			}
+		}
+		return count;
+	}
+
+	public FiniteLocalDate[] toLocalDates(final int[] epochDays, final int count) {
+		final FiniteLocalDate[] dates = new FiniteLocalDate[count];
+		for (int i = 0; i < count; i++) {
+			if (epochDays[i] != DateParser.INVALID) {
+				dates[i] = FiniteLocalDate.of(epochDays[i]);
+			}
+		}
+		return dates;
+	}
+
+}
@@ -0,0 +1,127 @@
+package com.thoughtworks.datetime;
+
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+
+/**
+ * A source of the current instant and the time zone it is read in. Passing a
+ * clock to {@link LocalDate#today(Clock)}, {@link LocalDateTime#now(Clock)} and
+ * the <code>isAfterNow</code> family scopes the notion of now to the caller,
+ * unlike {@link LocalDateTime#setSystemDateTime(LocalDateTime)} which changes
+ * it for the whole JVM. Clocks are immutable and thread-safe.
+ */
+public abstract class Clock {
+	private static final Clock SYSTEM = new SystemClock(null);
+	private static final Clock SYSTEM_DEFAULT = new Clock() {
+		@Override
+		public long millis() {
+			return DateTimeUtils.currentTimeMillis();
+		}
+
+		@Override
+		public DateTimeZone getZone() {
+			return DateTimeZone.getDefault();
+		}
+	};
+
+	/**
+	 * Returns the system clock in the default time zone, ignoring any
+	 * system date time fixed through LocalDateTime.
+	 */
+	public static Clock system() {
+		return SYSTEM;
+	}
+
+	public static Clock system(final DateTimeZone zone) {
+		return new SystemClock(zone);
+	}
+
+	/**
+	 * Returns the clock used by the methods that take no clock: the system
+	 * clock in the default time zone, unless a system date time has been
+	 * fixed through LocalDateTime.
+	 */
+	public static Clock systemDefault() {
+		return SYSTEM_DEFAULT;
+	}
+
+	public static Clock fixed(final LocalDateTime dateTime) {
+		return fixed(dateTime.toEpochMillis(), DateTimeZone.getDefault());
+	}
+
+	public static Clock fixed(final long millis, final DateTimeZone zone) {
+		return new Clock() {
+			@Override
+			public long millis() {
+				return millis;
+			}
+
+			@Override
+			public DateTimeZone getZone() {
+				return zone;
+			}
+		};
+	}
+
+	public static Clock offset(final Clock clock, final long offsetMillis) {
+		return new Clock() {
+			@Override
+			public long millis() {
+				return clock.millis() + offsetMillis;
+			}
+
+			@Override
+			public DateTimeZone getZone() {
+				return clock.getZone();
+			}
+		};
+	}
+
+	/**
+	 * Returns a clock that reads the given clock rounded down to a whole
+	 * number of ticks.
+	 */
+	public static Clock tick(final Clock clock, final long tickMillis) {
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("tick must be positive");
+		}
+		return new Clock() {
+			@Override
+			public long millis() {
+				return EpochDays.floorDiv(clock.millis(), tickMillis) * tickMillis;
+			}
+
+			@Override
+			public DateTimeZone getZone() {
+				return clock.getZone();
+			}
+		};
+	}
+
+	public abstract long millis();
+
+	public abstract DateTimeZone getZone();
+
+	int epochDay() {
+		return EpochDays.ofMillis(millis(), getZone());
+	}
+
+	private static final class SystemClock extends Clock {
+		private final DateTimeZone zone;
+
+		SystemClock(final DateTimeZone zone) {
+			this.zone = zone;
+		}
+
+		@Override
+		public long millis() {
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public DateTimeZone getZone() {
+			return zone == null ? DateTimeZone.getDefault() : zone;
+		}
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.thoughtworks.datetime;
+
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Publishes the current second as a shared LocalDateTime from a daemon thread
+ * that wakes at each second boundary, so that reading the time allocates
+ * nothing. A reader that finds the published second stale, because the
+ * ticker has been delayed, works out the current second itself.
+ */
+final class CoarseClock implements Runnable {
+	private final Thread thread;
+	private volatile Second current;
+	private volatile boolean running = true;
+
+	private CoarseClock() {
+		current = new Second(DateTimeUtils.currentTimeMillis());
+		thread = new Thread(this, "coarse-clock");
+		thread.setDaemon(true);
+	}
+
+	static CoarseClock start() {
+		final CoarseClock clock = new CoarseClock();
+		clock.thread.start();
+		return clock;
+	}
+
+	void stop() {
+		running = false;
+		thread.interrupt();
+	}
+
+	LocalDateTime now() {
+		final long millis = DateTimeUtils.currentTimeMillis();
+		Second second = current;
+		if (millis < second.startMillis || millis >= second.startMillis + 1000) {
+			second = new Second(millis);
+			current = second;
+		}
+		return second.dateTime;
+	}
+
+	public void run() {
+		while (running) {
+			final long millis = DateTimeUtils.currentTimeMillis();
+			if (millis < current.startMillis || millis >= current.startMillis + 1000) {
+				current = new Second(millis);
+			}
+			try {
+				Thread.sleep(1000 - EpochDays.floorMod(millis, 1000));
+			} catch (final InterruptedException e) {
+				// stop() interrupts the sleep; otherwise carry on ticking
+			}
+		}
+	}
+
+	private static final class Second {
+		final long startMillis;
+		final LocalDateTime dateTime;
+
+		Second(final long millis) {
+			startMillis = millis - EpochDays.floorMod(millis, 1000);
+			dateTime = LocalDateTime.ofMillis(startMillis, DateTimeZone.getDefault());
+		}
+	}
+
+}
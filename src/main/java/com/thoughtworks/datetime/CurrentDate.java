@@ -0,0 +1,60 @@
+package com.thoughtworks.datetime;
+
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Caches today's date in the default time zone, together with the range of
+ * instants over which it stays today, so it is only recalculated when the
+ * clock crosses midnight, an offset transition, or the default zone changes.
+ * Honours a system date time fixed through LocalDateTime.
+ */
+final class CurrentDate {
+	private static volatile Today today = new Today(DateTimeUtils.currentTimeMillis(), DateTimeZone.getDefault());
+
+	private CurrentDate() {
+	}
+
+	static int epochDay() {
+		return current().date.toEpochDay();
+	}
+
+	static FiniteLocalDate today() {
+		return current().date;
+	}
+
+	private static Today current() {
+		final long millis = DateTimeUtils.currentTimeMillis();
+		final DateTimeZone zone = DateTimeZone.getDefault();
+		Today current = today;
+		if (millis < current.validFrom || millis >= current.validUntil || current.zone != zone) {
+			current = new Today(millis, zone);
+			today = current;
+		}
+		return current;
+	}
+
+	/**
+	 * A date and the instants over which the zone's offset is unchanged and
+	 * the local date is that date.
+	 */
+	private static final class Today {
+		final FiniteLocalDate date;
+		final DateTimeZone zone;
+		final long validFrom;
+		final long validUntil;
+
+		Today(final long millis, final DateTimeZone zone) {
+			final int offset = zone.getOffset(millis);
+			final int epochDay = (int) EpochDays.floorDiv(millis + offset, EpochDays.MILLIS_PER_DAY);
+			final long startOfDay = epochDay * EpochDays.MILLIS_PER_DAY - offset;
+			final long endOfDay = startOfDay + EpochDays.MILLIS_PER_DAY;
+			final long nextTransition = zone.nextTransition(millis);
+			this.date = FiniteLocalDate.of(epochDay);
+			this.zone = zone;
+			this.validFrom = zone.getOffset(startOfDay) == offset ? startOfDay : millis;
+			this.validUntil = nextTransition > millis ? Math.min(endOfDay, nextTransition) : endOfDay;
+		}
+	}
+
+}
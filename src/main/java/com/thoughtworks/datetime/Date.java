@@ -1,5 +1,6 @@
 package com.thoughtworks.datetime;
 
+import java.io.IOException;
 import java.util.Calendar;
 
 public interface Date {
@@ -25,6 +26,18 @@ public interface Date {
 
 	java.util.Date getDate();
 
+	/**
+	 * Returns the local date as days since 1970-01-01, or Integer.MAX_VALUE
+	 * when the date is infinite.
+	 */
+	int toEpochDay();
+
+	/**
+	 * Returns the instant in the default time zone as milliseconds since the
+	 * epoch, or Long.MAX_VALUE when the date is infinite.
+	 */
+	long toEpochMillis();
+
 	Calendar toCalendar();
 
 	boolean isAfter(Date date);
@@ -38,10 +51,16 @@ public interface Date {
 	boolean isAfterNow();
 
 	boolean isBeforeNow();
-	
+
+	boolean isAfterNow(Clock clock);
+
+	boolean isBeforeNow(Clock clock);
+
 	boolean isBetween(Date start, Date end);
 
 	boolean isInfinite();
 
 	String format(String pattern);
+
+	void formatTo(Appendable out, String pattern) throws IOException;
 }
@@ -0,0 +1,56 @@
+package com.thoughtworks.datetime;
+
+import java.util.BitSet;
+
+/**
+ * The epoch days parsed from a column of date strings, with the rows that
+ * were empty and the rows that failed to parse. Both are stored as
+ * {@link DateParser#INVALID} in the epoch day array.
+ */
+public final class DateColumn {
+	private final int[] epochDays;
+	private final BitSet missing;
+	private final BitSet invalid;
+
+	DateColumn(final int[] epochDays, final BitSet missing, final BitSet invalid) {
+		this.epochDays = epochDays;
+		this.missing = missing;
+		this.invalid = invalid;
+	}
+
+	public int size() {
+		return epochDays.length;
+	}
+
+	public int getEpochDay(final int row) {
+		return epochDays[row];
+	}
+
+	public FiniteLocalDate getLocalDate(final int row) {
+		return epochDays[row] == DateParser.INVALID ? null : FiniteLocalDate.of(epochDays[row]);
+	}
+
+	public boolean isMissing(final int row) {
+		return missing.get(row);
+	}
+
+	public boolean isInvalid(final int row) {
+		return invalid.get(row);
+	}
+
+	/**
+	 * Returns the backing array, which is not copied.
+	 */
+	public int[] getEpochDays() {
+		return epochDays;
+	}
+
+	public BitSet getMissing() {
+		return missing;
+	}
+
+	public BitSet getInvalid() {
+		return invalid;
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.thoughtworks.datetime;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Parses whole columns of dates with one compiled {@link DateParser}, with
+ * the same semantics as {@link LocalDate#parseDate(String, String)}: null and
+ * empty values are missing, anything else that does not parse is invalid.
+ */
+public final class DateColumnParser {
+	static final int MIN_ROWS_PER_TASK = 1 << 14;
+
+	private final DateParser parser;
+
+	private DateColumnParser(final DateParser parser) {
+		this.parser = parser;
+	}
+
+	public static DateColumnParser forPattern(final String pattern) {
+		return new DateColumnParser(DateParser.forPattern(pattern));
+	}
+
+	public DateColumn parse(final CharSequence[] values) {
+		final int[] epochDays = new int[values.length];
+		final BitSet missing = new BitSet(values.length);
+		final BitSet invalid = new BitSet(values.length);
+		parseRows(values, 0, values.length, epochDays, missing, invalid);
+		return new DateColumn(epochDays, missing, invalid);
+	}
+
+	public DateColumn parse(final List<? extends CharSequence> values) {
+		if (values instanceof RandomAccess) {
+			return parse(values.toArray(new CharSequence[values.size()]));
+		}
+		final int[] epochDays = new int[values.size()];
+		final BitSet missing = new BitSet(values.size());
+		final BitSet invalid = new BitSet(values.size());
+		final ParseResult result = new ParseResult();
+		final Iterator<? extends CharSequence> iterator = values.iterator();
+		for (int row = 0; row < epochDays.length; row++) {
+			epochDays[row] = parseRow(iterator.next(), row, result, missing, invalid);
+		}
+		return new DateColumn(epochDays, missing, invalid);
+	}
+
+	/**
+	 * Parses a buffer of values separated by <code>delimiter</code>, such as
+	 * one column of a file read as a whole.
+	 */
+	public DateColumn parse(final CharSequence buffer, final char delimiter) {
+		int rows = 1;
+		for (int i = 0; i < buffer.length(); i++) {
+			if (buffer.charAt(i) == delimiter) {
+				rows++;
+			}
+		}
+		final int[] epochDays = new int[rows];
+		final BitSet missing = new BitSet(rows);
+		final BitSet invalid = new BitSet(rows);
+		final ParseResult result = new ParseResult();
+		int row = 0;
+		int start = 0;
+		for (int i = 0; i <= buffer.length(); i++) {
+			if (i == buffer.length() || buffer.charAt(i) == delimiter) {
+				if (parser.parseInto(buffer, start, i, result)) {
+					epochDays[row] = result.getEpochDay();
+				} else {
+					epochDays[row] = DateParser.INVALID;
+					(result.getReason() == ParseResult.Reason.EMPTY ? missing : invalid).set(row);
+				}
+				row++;
+				start = i + 1;
+			}
+		}
+		return new DateColumn(epochDays, missing, invalid);
+	}
+
+	/**
+	 * Parses a column by splitting it into one slice per available processor
+	 * and parsing the slices on <code>executor</code>. Columns too small to be
+	 * worth splitting are parsed on the calling thread.
+	 */
+	public DateColumn parse(final CharSequence[] values, final ExecutorService executor) throws InterruptedException {
+		final int tasks = Math.min(Runtime.getRuntime().availableProcessors(), values.length / MIN_ROWS_PER_TASK);
+		if (tasks <= 1) {
+			return parse(values);
+		}
+		final int[] epochDays = new int[values.length];
+		final List<Future<BitSet[]>> futures = new ArrayList<Future<BitSet[]>>(tasks);
+		for (int task = 0; task < tasks; task++) {
+			final int from = (int) ((long) values.length * task / tasks);
+			final int to = (int) ((long) values.length * (task + 1) / tasks);
+			futures.add(executor.submit(new Callable<BitSet[]>() {
+				public BitSet[] call() {
+					final BitSet missing = new BitSet(values.length);
+					final BitSet invalid = new BitSet(values.length);
+					parseRows(values, from, to, epochDays, missing, invalid);
+					return new BitSet[] { missing, invalid };
+				}
+			}));
+		}
+		final BitSet missing = new BitSet(values.length);
+		final BitSet invalid = new BitSet(values.length);
+		for (final Future<BitSet[]> future : futures) {
+			try {
+				final BitSet[] failures = future.get();
+				missing.or(failures[0]);
+				invalid.or(failures[1]);
+			} catch (final ExecutionException e) {
+				throw new IllegalStateException("failed to parse column", e.getCause());
+			}
+		}
+		return new DateColumn(epochDays, missing, invalid);
+	}
+
+	private void parseRows(final CharSequence[] values, final int from, final int to, final int[] epochDays,
+			final BitSet missing, final BitSet invalid) {
+		final ParseResult result = new ParseResult();
+		for (int row = from; row < to; row++) {
+			epochDays[row] = parseRow(values[row], row, result, missing, invalid);
+		}
+	}
+
+	private int parseRow(final CharSequence value, final int row, final ParseResult result, final BitSet missing,
+			final BitSet invalid) {
+		if (value == null || value.length() == 0) {
+			missing.set(row);
+			return DateParser.INVALID;
+		}
+		if (!parser.parseInto(value, 0, value.length(), result)) {
+			invalid.set(row);
+			return DateParser.INVALID;
+		}
+		return result.getEpochDay();
+	}
+
+}
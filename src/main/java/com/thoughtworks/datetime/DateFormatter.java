@@ -0,0 +1,254 @@
+package com.thoughtworks.datetime;
+
+import java.io.IOException;
+import java.text.DateFormatSymbols;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * An immutable, thread-safe formatter for a Joda {@link DateTimeFormat}
+ * pattern that writes straight into an {@link Appendable}. Year, month, day,
+ * day of week, hour, minute and second fields are compiled, using the names
+ * of the default locale; any other pattern is printed by Joda.
+ */
+public final class DateFormatter {
+	private static final int MAX_CACHED_PATTERNS = 256;
+
+	private static final ConcurrentMap<String, DateFormatter> CACHE = new ConcurrentHashMap<String, DateFormatter>();
+
+	private final String pattern;
+	private final Locale locale;
+	private final Element[] elements;
+	private final boolean hasTimeFields;
+	private final String[] shortMonths;
+	private final String[] months;
+	private final String[] shortWeekdays;
+	private final String[] weekdays;
+	private final DateTimeFormatter fallback;
+
+	private DateFormatter(final String pattern, final Locale locale, final Element[] elements,
+			final boolean hasTimeFields) {
+		this.pattern = pattern;
+		this.locale = locale;
+		this.elements = elements;
+		this.hasTimeFields = hasTimeFields;
+		final DateFormatSymbols symbols = new DateFormatSymbols(locale);
+		this.shortMonths = symbols.getShortMonths();
+		this.months = symbols.getMonths();
+		this.shortWeekdays = symbols.getShortWeekdays();
+		this.weekdays = symbols.getWeekdays();
+		this.fallback = elements == null || hasTimeFields ? DateTimeFormat.forPattern(pattern) : null;
+	}
+
+	public static DateFormatter forPattern(final String pattern) {
+		final DateFormatter formatter = CACHE.get(pattern);
+		if (formatter != null && formatter.locale.equals(Locale.getDefault())) {
+			return formatter;
+		}
+		final DateFormatter compiled = compile(pattern, Locale.getDefault());
+		if (CACHE.size() >= MAX_CACHED_PATTERNS) {
+			CACHE.clear();
+		}
+		CACHE.put(pattern, compiled);
+		return compiled;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public String print(final Date date) {
+		final StringBuilder out = new StringBuilder(pattern.length() + 16);
+		printTo(out, date);
+		return out.toString();
+	}
+
+	public void printTo(final StringBuilder out, final Date date) {
+		try {
+			printTo((Appendable) out, date);
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public void printTo(final Appendable out, final Date date) throws IOException {
+		if (date.isInfinite()) {
+			out.append("N/A");
+		} else if (date instanceof FiniteLocalDate) {
+			final FiniteLocalDate localDate = (FiniteLocalDate) date;
+			if (fallback != null) {
+				out.append(fallback.print(localDate.toJodaLocalDate()));
+			} else {
+				printFields(out, localDate.toEpochDay(), 0);
+			}
+		} else if (date instanceof LocalDateTime) {
+			final LocalDateTime dateTime = (LocalDateTime) date;
+			if (elements == null) {
+				out.append(fallback.print(dateTime.toJodaDateTime()));
+			} else {
+				printFields(out, dateTime.toEpochDay(), dateTime.localSecondOfDay());
+			}
+		} else {
+			out.append(date.format(pattern));
+		}
+	}
+
+	private void printFields(final Appendable out, final int epochDay, final int secondOfDay) throws IOException {
+		final int ymd = EpochDays.decode(epochDay);
+		final int year = ymd >> 9;
+		final int month = (ymd >> 5) & 0xF;
+		for (final Element element : elements) {
+			switch (element.field) {
+			case 0:
+				out.append(element.literal);
+				break;
+			case 'y':
+				if (element.count == 2) {
+					appendPadded(out, Math.abs(year) % 100, 2);
+				} else {
+					appendPadded(out, year, element.count);
+				}
+				break;
+			case 'M':
+				if (element.count >= 4) {
+					out.append(months[month - 1]);
+				} else if (element.count == 3) {
+					out.append(shortMonths[month - 1]);
+				} else {
+					appendPadded(out, month, element.count);
+				}
+				break;
+			case 'd':
+				appendPadded(out, ymd & 0x1F, element.count);
+				break;
+			case 'E':
+				// Calendar numbers days from Sunday, ISO from Monday
+				final int calendarDay = EpochDays.dayOfWeek(epochDay) % 7 + Calendar.SUNDAY;
+				out.append(element.count >= 4 ? weekdays[calendarDay] : shortWeekdays[calendarDay]);
+				break;
+			case 'H':
+				appendPadded(out, secondOfDay / 3600, element.count);
+				break;
+			case 'm':
+				appendPadded(out, (secondOfDay / 60) % 60, element.count);
+				break;
+			default:
+				appendPadded(out, secondOfDay % 60, element.count);
+				break;
+			}
+		}
+	}
+
+	static void appendPadded(final Appendable out, final int value, final int width) throws IOException {
+		int remaining = value;
+		if (remaining < 0) {
+			out.append('-');
+			remaining = -remaining;
+		}
+		int digits = 1;
+		int divisor = 1;
+		while (divisor <= remaining / 10) {
+			divisor *= 10;
+			digits++;
+		}
+		for (int i = digits; i < width; i++) {
+			out.append('0');
+		}
+		while (divisor > 0) {
+			out.append((char) ('0' + remaining / divisor));
+			remaining %= divisor;
+			divisor /= 10;
+		}
+	}
+
+	/**
+	 * Appends the text quoted from the quote at open, in which a doubled quote
+	 * stands for one quote, returning the index after the closing quote or -1
+	 * when there is none.
+	 */
+	static int appendQuoted(final String pattern, final int open, final StringBuilder literal) {
+		int start = open + 1;
+		while (true) {
+			final int close = pattern.indexOf('\'', start);
+			if (close < 0) {
+				return -1;
+			}
+			literal.append(pattern, start, close);
+			if (close + 1 < pattern.length() && pattern.charAt(close + 1) == '\'') {
+				literal.append('\'');
+				start = close + 2;
+			} else {
+				return close + 1;
+			}
+		}
+	}
+
+	private static DateFormatter compile(final String pattern, final Locale locale) {
+		final List<Element> elements = new ArrayList<Element>();
+		final StringBuilder literal = new StringBuilder();
+		boolean hasTimeFields = false;
+		int i = 0;
+		while (i < pattern.length()) {
+			final char c = pattern.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+					literal.append('\'');
+					i += 2;
+					continue;
+				}
+				i = appendQuoted(pattern, i, literal);
+				if (i < 0) {
+					return new DateFormatter(pattern, locale, null, false);
+				}
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int count = 1;
+				while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+					count++;
+				}
+				if ("yMdEHms".indexOf(c) < 0) {
+					return new DateFormatter(pattern, locale, null, false);
+				}
+				hasTimeFields |= "Hms".indexOf(c) >= 0;
+				if (literal.length() > 0) {
+					elements.add(new Element(literal.toString()));
+					literal.setLength(0);
+				}
+				elements.add(new Element(c, count));
+				i += count;
+			} else {
+				literal.append(c);
+				i++;
+			}
+		}
+		if (literal.length() > 0) {
+			elements.add(new Element(literal.toString()));
+		}
+		return new DateFormatter(pattern, locale, elements.toArray(new Element[elements.size()]), hasTimeFields);
+	}
+
+	private static final class Element {
+		final char field;
+		final int count;
+		final String literal;
+
+		Element(final String literal) {
+			this.field = 0;
+			this.count = 0;
+			this.literal = literal;
+		}
+
+		Element(final char field, final int count) {
+			this.field = field;
+			this.count = count;
+			this.literal = null;
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+package com.thoughtworks.datetime;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * An immutable, thread-safe parser for a {@link SimpleDateFormat} pattern.
+ * Numeric year, month, day, hour, minute and second fields are compiled and
+ * parsed straight into an epoch day; any other pattern is parsed by a copy of
+ * a non-lenient {@link SimpleDateFormat}. As with
+ * {@link SimpleDateFormat#parse(String)}, text following the pattern is
+ * ignored.
+ */
+public final class DateParser {
+	public static final int INVALID = Integer.MIN_VALUE;
+
+	private static final int MAX_CACHED_PATTERNS = 256;
+	private static final int MAX_DIGITS = 9;
+	private static final int TWO_DIGIT_YEAR_MONTHS_BEFORE_TODAY = 80 * 12;
+
+	private static final ConcurrentMap<String, DateParser> CACHE = new ConcurrentHashMap<String, DateParser>();
+
+	private final String pattern;
+	private final Element[] elements;
+	private final boolean iso;
+
+	private DateParser(final String pattern, final Element[] elements) {
+		this.pattern = pattern;
+		this.elements = elements;
+		this.iso = IsoDateParser.DATE_PATTERN.equals(pattern);
+	}
+
+	public static DateParser forPattern(final String pattern) {
+		DateParser parser = CACHE.get(pattern);
+		if (parser == null) {
+			parser = compile(pattern);
+			if (CACHE.size() >= MAX_CACHED_PATTERNS) {
+				CACHE.clear();
+			}
+			final DateParser existing = CACHE.putIfAbsent(pattern, parser);
+			if (existing != null) {
+				parser = existing;
+			}
+		}
+		return parser;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public FiniteLocalDate parse(final String text) {
+		if (text == null || text.length() == 0) {
+			return null;
+		}
+		final int epochDay = parseEpochDay(text, 0, text.length(), null);
+		return epochDay == INVALID ? null : FiniteLocalDate.of(epochDay);
+	}
+
+	public int parseEpochDay(final CharSequence text) {
+		return parseEpochDay(text, 0, text.length());
+	}
+
+	public int parseEpochDay(final CharSequence text, final int start, final int end) {
+		return parseEpochDay(text, start, end, null);
+	}
+
+	public boolean parseInto(final CharSequence text, final ParseResult result) {
+		return parseInto(text, 0, text == null ? 0 : text.length(), result);
+	}
+
+	public boolean parseInto(final CharSequence text, final int start, final int end, final ParseResult result) {
+		return parseEpochDay(text, start, end, result) != INVALID;
+	}
+
+	/**
+	 * Returns the epoch day parsed from text or {@link #INVALID}, recording
+	 * the outcome in result only when one is given, so that callers wanting
+	 * just the epoch day allocate nothing.
+	 */
+	private int parseEpochDay(final CharSequence text, final int start, final int end, final ParseResult result) {
+		if (text == null || start >= end) {
+			return fail(result, ParseResult.Reason.EMPTY, start);
+		}
+		if (elements == null) {
+			return parseWithFallback(text.subSequence(start, end).toString(), start, result);
+		}
+		if (iso && isIsoDate(text, start, end)) {
+			final int epochDay = IsoDateParser.parseEpochDay(text, start);
+			if (epochDay != INVALID) {
+				return succeed(result, epochDay, 0, start + IsoDateParser.DATE_LENGTH);
+			}
+		}
+		int position = start;
+		int year = 1970;
+		int month = 1;
+		int day = 1;
+		int yearIndex = start;
+		int monthIndex = start;
+		int dayIndex = start;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		boolean twoDigitYear = false;
+		for (final Element element : elements) {
+			if (element.literal != null) {
+				final String literal = element.literal;
+				for (int i = 0; i < literal.length(); i++) {
+					if (position + i >= end) {
+						return fail(result, ParseResult.Reason.END_OF_INPUT, position + i);
+					}
+					if (text.charAt(position + i) != literal.charAt(i)) {
+						return fail(result, ParseResult.Reason.UNEXPECTED_CHARACTER, position + i);
+					}
+				}
+				position += literal.length();
+				continue;
+			}
+			if (!element.abutting) {
+				while (position < end && (text.charAt(position) == ' ' || text.charAt(position) == '\t')) {
+					position++;
+				}
+			}
+			final int fieldIndex = position;
+			final int limit = Math.min(end, position + (element.abutting ? element.count : MAX_DIGITS));
+			int value = 0;
+			while (position < limit) {
+				final int digit = text.charAt(position) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = value * 10 + digit;
+				position++;
+			}
+			if (position == fieldIndex) {
+				return fail(result, position < end ? ParseResult.Reason.EXPECTED_DIGIT
+						: ParseResult.Reason.END_OF_INPUT, position);
+			}
+			switch (element.field) {
+			case 'y':
+				year = value;
+				yearIndex = fieldIndex;
+				twoDigitYear = element.count <= 2 && position - fieldIndex == 2;
+				break;
+			case 'M':
+				month = value;
+				monthIndex = fieldIndex;
+				break;
+			case 'd':
+				day = value;
+				dayIndex = fieldIndex;
+				break;
+			case 'H':
+				if (value > 23) {
+					return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, fieldIndex);
+				}
+				hour = value;
+				break;
+			case 'm':
+				if (value > 59) {
+					return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, fieldIndex);
+				}
+				minute = value;
+				break;
+			default:
+				if (value > 59) {
+					return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, fieldIndex);
+				}
+				second = value;
+				break;
+			}
+		}
+		// a two digit year, including 00, is placed in its century below
+		if (!twoDigitYear && (year < 1 || year > EpochDays.MAX_YEAR)) {
+			return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, yearIndex);
+		}
+		if (month < 1 || month > 12) {
+			return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, monthIndex);
+		}
+		final int epochDay = twoDigitYear ? twoDigitYearEpochDay(year, month, day) : epochDayOrInvalid(year, month,
+				day);
+		if (epochDay == INVALID) {
+			return fail(result, ParseResult.Reason.FIELD_OUT_OF_RANGE, dayIndex);
+		}
+		return succeed(result, epochDay, hour * 3600 + minute * 60 + second, position);
+	}
+
+	private static boolean isIsoDate(final CharSequence text, final int start, final int end) {
+		// a digit after the day would have been read as part of it
+		final int dateEnd = start + IsoDateParser.DATE_LENGTH;
+		return end == dateEnd || (end > dateEnd && (text.charAt(dateEnd) < '0' || text.charAt(dateEnd) > '9'));
+	}
+
+	private int parseWithFallback(final String text, final int start, final ParseResult result) {
+		final ParsePosition position = new ParsePosition(0);
+		// built for each parse so that it follows the current default locale and zone
+		final SimpleDateFormat format = new SimpleDateFormat(pattern);
+		format.setLenient(false);
+		format.setTimeZone(DateTimeZone.getDefault().toTimeZone());
+		final java.util.Date date = format.parse(text, position);
+		if (date == null) {
+			return fail(result, ParseResult.Reason.UNPARSEABLE, start + Math.max(position.getErrorIndex(), 0));
+		}
+		final long localMillis = date.getTime() + DateTimeZone.getDefault().getOffset(date.getTime());
+		final int epochDay = (int) EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY);
+		final int secondOfDay = (int) ((localMillis - epochDay * EpochDays.MILLIS_PER_DAY) / 1000);
+		return succeed(result, epochDay, secondOfDay, start + position.getIndex());
+	}
+
+	private static int fail(final ParseResult result, final ParseResult.Reason reason, final int index) {
+		if (result != null) {
+			result.fail(reason, index);
+		}
+		return INVALID;
+	}
+
+	private static int succeed(final ParseResult result, final int epochDay, final int secondOfDay,
+			final int endIndex) {
+		if (result != null) {
+			result.succeed(epochDay, secondOfDay, endIndex);
+		}
+		return epochDay;
+	}
+
+	private static int twoDigitYearEpochDay(final int twoDigitYear, final int month, final int day) {
+		// same window as SimpleDateFormat: 80 years before to 20 years after today
+		final int centuryStart = EpochDays.plusMonths(CurrentDate.epochDay(), -TWO_DIGIT_YEAR_MONTHS_BEFORE_TODAY);
+		final int startYear = EpochDays.year(centuryStart);
+		int year = (startYear / 100) * 100 + twoDigitYear;
+		if (year < startYear) {
+			year += 100;
+		}
+		int epochDay = epochDayOrInvalid(year, month, day);
+		if (epochDay != INVALID && epochDay < centuryStart) {
+			epochDay = epochDayOrInvalid(year + 100, month, day);
+		}
+		return epochDay;
+	}
+
+	private static int epochDayOrInvalid(final int year, final int month, final int day) {
+		if (year < 1 || year > EpochDays.MAX_YEAR || month < 1 || month > 12 || day < 1
+				|| day > EpochDays.lengthOfMonth(year, month)) {
+			return INVALID;
+		}
+		return EpochDays.of(year, month, day);
+	}
+
+	private static DateParser compile(final String pattern) {
+		final List<Element> elements = new ArrayList<Element>();
+		final StringBuilder literal = new StringBuilder();
+		boolean compilable = true;
+		int i = 0;
+		while (i < pattern.length()) {
+			final char c = pattern.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+					literal.append('\'');
+					i += 2;
+					continue;
+				}
+				i = DateFormatter.appendQuoted(pattern, i, literal);
+				if (i < 0) {
+					compilable = false;
+					break;
+				}
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int count = 1;
+				while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+					count++;
+				}
+				if ("yMdHms".indexOf(c) < 0 || (c == 'M' && count > 2)) {
+					compilable = false;
+					break;
+				}
+				if (literal.length() > 0) {
+					elements.add(new Element(literal.toString()));
+					literal.setLength(0);
+				}
+				elements.add(new Element(c, count));
+				i += count;
+			} else {
+				literal.append(c);
+				i++;
+			}
+		}
+		if (!compilable) {
+			// rejects an invalid pattern now rather than on every parse
+			new SimpleDateFormat(pattern);
+			return new DateParser(pattern, null);
+		}
+		if (literal.length() > 0) {
+			elements.add(new Element(literal.toString()));
+		}
+		// like SimpleDateFormat, a numeric field directly followed by another
+		// one only consumes as many digits as it has pattern letters
+		for (int j = 0; j < elements.size() - 1; j++) {
+			if (elements.get(j).literal == null && elements.get(j + 1).literal == null) {
+				elements.set(j, elements.get(j).abutting());
+			}
+		}
+		return new DateParser(pattern, elements.toArray(new Element[elements.size()]));
+	}
+
+	private static final class Element {
+		final char field;
+		final int count;
+		final boolean abutting;
+		final String literal;
+
+		Element(final String literal) {
+			this.field = 0;
+			this.count = 0;
+			this.abutting = false;
+			this.literal = literal;
+		}
+
+		Element(final char field, final int count) {
+			this(field, count, false);
+		}
+
+		private Element(final char field, final int count, final boolean abutting) {
+			this.field = field;
+			this.count = count;
+			this.abutting = abutting;
+			this.literal = null;
+		}
+
+		Element abutting() {
+			return new Element(field, count, true);
+		}
+	}
+
+}
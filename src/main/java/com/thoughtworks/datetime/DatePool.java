@@ -0,0 +1,36 @@
+package com.thoughtworks.datetime;
+
+/**
+ * Holds one canonical FiniteLocalDate for every day in a window of epoch
+ * days, filled when the pool is created so it can be shared between threads
+ * without locking.
+ */
+final class DatePool {
+	// a century either side, which keeps the pool to a few megabytes
+	static final int MAX_DAYS_AROUND = 36525;
+
+	private final int firstEpochDay;
+	private final FiniteLocalDate[] dates;
+
+	DatePool(final int centreEpochDay, final int daysAround) {
+		if (daysAround < 0 || daysAround > MAX_DAYS_AROUND) {
+			throw new IllegalArgumentException("days around must be in the range [0," + MAX_DAYS_AROUND + "]");
+		}
+		firstEpochDay = (int) Math.max(EpochDays.MIN_EPOCH_DAY, (long) centreEpochDay - daysAround);
+		final int lastEpochDay = (int) Math.min(EpochDays.MAX_EPOCH_DAY, (long) centreEpochDay + daysAround);
+		dates = new FiniteLocalDate[lastEpochDay - firstEpochDay + 1];
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = new FiniteLocalDate(firstEpochDay + i);
+		}
+	}
+
+	/**
+	 * Returns the canonical date for epochDay, or null when it is outside the
+	 * window.
+	 */
+	FiniteLocalDate get(final int epochDay) {
+		final int index = epochDay - firstEpochDay;
+		return index >= 0 && index < dates.length ? dates[index] : null;
+	}
+
+}
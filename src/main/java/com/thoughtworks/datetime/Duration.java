@@ -1,14 +1,20 @@
 package com.thoughtworks.datetime;
 
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
-
 public final class Duration implements Comparable<Duration> {
-	private static final Duration INFINITE = new Duration(null);
+	private static final int INFINITE_DAYS = -1;
+	private static final int MAX_CACHED_DAYS = 3660;
+
+	private static final Duration INFINITE = new Duration(INFINITE_DAYS);
+	private static final Duration[] CACHE = new Duration[MAX_CACHED_DAYS + 1];
+	static {
+		for (int days = 0; days <= MAX_CACHED_DAYS; days++) {
+			CACHE[days] = new Duration(days);
+		}
+	}
 
-	private Integer days;
+	private final int days;
 
-	private Duration(final Integer days) {
+	private Duration(final int days) {
 		this.days = days;
 	}
 
@@ -20,23 +26,85 @@ public final class Duration implements Comparable<Duration> {
 		if (days < 0) {
 			throw new IllegalArgumentException("days must not be negative");
 		}
-		return new Duration(days);
+		return days <= MAX_CACHED_DAYS ? CACHE[days] : new Duration(days);
 	}
 
 	public Integer getDays() {
-		if (days == null) {
+		return toDays();
+	}
+
+	public int toDays() {
+		if (days == INFINITE_DAYS) {
 			throw new IllegalStateException("Duration is infinite");
 		}
 		return days;
 	}
 
 	public boolean isInfinite() {
-		return (days == null);
+		return days == INFINITE_DAYS;
+	}
+
+	/**
+	 * Returns the sum of the durations, which is infinite if either is
+	 * infinite or the sum does not fit in an int.
+	 */
+	public Duration plus(final Duration other) {
+		if (isInfinite() || other.isInfinite()) {
+			return INFINITE;
+		}
+		return ofSaturatedDays((long) days + other.days);
+	}
+
+	/**
+	 * Returns the difference of the durations, which is zero if other is the
+	 * longer one and infinite if only this duration is infinite.
+	 */
+	public Duration minus(final Duration other) {
+		if (isInfinite()) {
+			if (other.isInfinite()) {
+				throw new IllegalArgumentException("cannot subtract an infinite duration from an infinite duration");
+			}
+			return INFINITE;
+		}
+		if (other.isInfinite() || other.days >= days) {
+			return CACHE[0];
+		}
+		return ofDays(days - other.days);
+	}
+
+	/**
+	 * Returns this duration multiplied by a non-negative factor, which is
+	 * infinite if this duration is infinite or the product does not fit in an
+	 * int; any duration multiplied by zero is zero.
+	 */
+	public Duration multipliedBy(final int factor) {
+		if (factor < 0) {
+			throw new IllegalArgumentException("factor must not be negative");
+		}
+		if (factor == 0) {
+			return CACHE[0];
+		}
+		if (isInfinite()) {
+			return INFINITE;
+		}
+		return ofSaturatedDays((long) days * factor);
+	}
+
+	public Duration min(final Duration other) {
+		return compareTo(other) <= 0 ? this : other;
+	}
+
+	public Duration max(final Duration other) {
+		return compareTo(other) >= 0 ? this : other;
+	}
+
+	private static Duration ofSaturatedDays(final long days) {
+		return days > Integer.MAX_VALUE ? INFINITE : ofDays((int) days);
 	}
 
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder().append(days).toHashCode();
+		return days;
 	}
 
 	@Override
@@ -47,29 +115,25 @@ public final class Duration implements Comparable<Duration> {
 		if (object == null || getClass() != object.getClass()) {
 			return false;
 		}
-		final Duration other = (Duration) object;
-		return new EqualsBuilder().append(days, other.days).isEquals();
+		return days == ((Duration) object).days;
 	}
 
 	public int compareTo(final Duration other) {
-		if (this == other) {
+		if (days == other.days) {
 			return 0;
 		}
-		if (days == null) {
-			if (other.days == null) {
-				return 0;
-			}
+		if (isInfinite()) {
 			return 1;
-		} else if (other.days == null) {
+		}
+		if (other.isInfinite()) {
 			return -1;
-		} else {
-			return days.compareTo(other.days);
 		}
+		return days < other.days ? -1 : 1;
 	}
 
 	@Override
 	public String toString() {
-		if (days == null) {
+		if (isInfinite()) {
 			return "infinite";
 		} else {
 			return Integer.toString(days);
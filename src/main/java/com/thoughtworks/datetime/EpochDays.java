@@ -0,0 +1,247 @@
+package com.thoughtworks.datetime;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Proleptic ISO calendar arithmetic over a day count relative to 1970-01-01.
+ */
+final class EpochDays {
+	static final int MIN_YEAR = -999999;
+	static final int MAX_YEAR = 999999;
+
+	static final long MILLIS_PER_DAY = 86400000L;
+	static final int SECONDS_PER_DAY = 86400;
+
+	private static final int DAYS_PER_CYCLE = 146097;
+	private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+	static final int MIN_EPOCH_DAY = of(MIN_YEAR, 1, 1);
+	static final int MAX_EPOCH_DAY = of(MAX_YEAR, 12, 31);
+
+	/**
+	 * Stands in for the infinite date; it sorts after every finite epoch day.
+	 */
+	static final int INFINITE = Integer.MAX_VALUE;
+
+	private EpochDays() {
+	}
+
+	static int of(final int year, final int month, final int day) {
+		checkRange("year", year, MIN_YEAR, MAX_YEAR);
+		checkRange("monthOfYear", month, 1, 12);
+		checkRange("dayOfMonth", day, 1, lengthOfMonth(year, month));
+		final long y = year;
+		long total = 365 * y;
+		if (y >= 0) {
+			total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		} else {
+			total -= y / -4 - y / -100 + y / -400;
+		}
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if (month > 2) {
+			total--;
+			if (!isLeapYear(year)) {
+				total--;
+			}
+		}
+		return (int) (total - DAYS_0000_TO_1970);
+	}
+
+	static int secondOfDay(final int hour, final int minute, final int second) {
+		checkRange("hourOfDay", hour, 0, 23);
+		checkRange("minuteOfHour", minute, 0, 59);
+		checkRange("secondOfMinute", second, 0, 59);
+		return hour * 3600 + minute * 60 + second;
+	}
+
+	static int of(final org.joda.time.LocalDate date) {
+		return of(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth());
+	}
+
+	static int ofMillis(final long millis, final DateTimeZone zone) {
+		return (int) floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+	}
+
+	static int ofDate(final java.util.Date date) {
+		return ofMillis(date.getTime(), DateTimeZone.getDefault());
+	}
+
+	/**
+	 * Decodes an epoch day into its year, month and day packed as
+	 * <code>year &lt;&lt; 9 | month &lt;&lt; 5 | day</code>.
+	 */
+	static int decode(final int epochDay) {
+		long zeroDay = epochDay + DAYS_0000_TO_1970;
+		// shift to a March-based year so that the leap day is last
+		zeroDay -= 60;
+		long adjust = 0;
+		if (zeroDay < 0) {
+			final long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+			adjust = adjustCycles * 400;
+			zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+		}
+		long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+		long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		if (doyEst < 0) {
+			yearEst--;
+			doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		}
+		yearEst += adjust;
+		final int marchDoy0 = (int) doyEst;
+		final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+		final int month = (marchMonth0 + 2) % 12 + 1;
+		final int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+		final int year = (int) (yearEst + marchMonth0 / 10);
+		return (year << 9) | (month << 5) | day;
+	}
+
+	static int year(final int epochDay) {
+		return decode(epochDay) >> 9;
+	}
+
+	static int monthOfYear(final int epochDay) {
+		return (decode(epochDay) >> 5) & 0xF;
+	}
+
+	static int dayOfMonth(final int epochDay) {
+		return decode(epochDay) & 0x1F;
+	}
+
+	static int dayOfWeek(final int epochDay) {
+		// 1970-01-01 was a Thursday
+		int dow = (epochDay + 3) % 7;
+		if (dow < 0) {
+			dow += 7;
+		}
+		return dow + 1;
+	}
+
+	static int dayOfYear(final int epochDay) {
+		return epochDay - of(year(epochDay), 1, 1) + 1;
+	}
+
+	static int weekOfWeekyear(final int epochDay) {
+		final int year = year(epochDay);
+		final int week = (epochDay - of(year, 1, 1) + 1 - dayOfWeek(epochDay) + 10) / 7;
+		if (week < 1) {
+			return weeksInWeekyear(year - 1);
+		}
+		if (week > weeksInWeekyear(year)) {
+			return 1;
+		}
+		return week;
+	}
+
+	private static int weeksInWeekyear(final int year) {
+		final int firstDay = dayOfWeek(of(year, 1, 1));
+		return (firstDay == 4 || (firstDay == 3 && isLeapYear(year))) ? 53 : 52;
+	}
+
+	static boolean isLeapYear(final int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	static int lengthOfMonth(final int year, final int month) {
+		switch (month) {
+		case 2:
+			return isLeapYear(year) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	static int plusDays(final int epochDay, final int days) {
+		final long result = (long) epochDay + days;
+		if (result < MIN_EPOCH_DAY || result > MAX_EPOCH_DAY) {
+			throw new IllegalArgumentException("date is outside the supported range");
+		}
+		return (int) result;
+	}
+
+	static int plusMonths(final int epochDay, final int months) {
+		final int ymd = decode(epochDay);
+		final long totalMonths = (ymd >> 9) * 12L + (((ymd >> 5) & 0xF) - 1) + months;
+		final long year = floorDiv(totalMonths, 12);
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			throw new IllegalArgumentException("date is outside the supported range");
+		}
+		final int month = (int) (totalMonths - year * 12) + 1;
+		final int day = Math.min(ymd & 0x1F, lengthOfMonth((int) year, month));
+		return of((int) year, month, day);
+	}
+
+	/**
+	 * Counts the whole months from one epoch day to another, truncated
+	 * towards zero; a month from the 31st ends on the last day of a shorter
+	 * month only once the day of month has been reached.
+	 */
+	static int monthsBetween(final int startEpochDay, final int endEpochDay) {
+		final int start = decode(startEpochDay);
+		final int end = decode(endEpochDay);
+		final long startPacked = ((start >> 9) * 12L + ((start >> 5) & 0xF)) * 32 + (start & 0x1F);
+		final long endPacked = ((end >> 9) * 12L + ((end >> 5) & 0xF)) * 32 + (end & 0x1F);
+		return (int) ((endPacked - startPacked) / 32);
+	}
+
+	/**
+	 * Counts the whole months between two local date times, given as seconds
+	 * since 1970-01-01T00:00 in local time.
+	 */
+	static int monthsBetweenLocalSeconds(final long startSeconds, final long endSeconds) {
+		final int startDay = (int) floorDiv(startSeconds, SECONDS_PER_DAY);
+		final long startTime = floorMod(startSeconds, SECONDS_PER_DAY);
+		int endDay = (int) floorDiv(endSeconds, SECONDS_PER_DAY);
+		final long endTime = floorMod(endSeconds, SECONDS_PER_DAY);
+		if (endDay > startDay && endTime < startTime) {
+			endDay--;
+		} else if (endDay < startDay && endTime > startTime) {
+			endDay++;
+		}
+		return monthsBetween(startDay, endDay);
+	}
+
+	/**
+	 * Returns the local date and time of a date as seconds since
+	 * 1970-01-01T00:00, reading other implementations in the default zone.
+	 */
+	static long localSecondsOf(final Date date) {
+		if (date instanceof FiniteLocalDate) {
+			return (long) ((FiniteLocalDate) date).toEpochDay() * SECONDS_PER_DAY;
+		}
+		if (date instanceof LocalDateTime) {
+			return ((LocalDateTime) date).localSeconds();
+		}
+		if (date.isInfinite()) {
+			throw new IllegalStateException("date is infinite");
+		}
+		return (long) date.toEpochDay() * SECONDS_PER_DAY;
+	}
+
+	static org.joda.time.LocalDate toJoda(final int epochDay) {
+		final int ymd = decode(epochDay);
+		return new org.joda.time.LocalDate(ymd >> 9, (ymd >> 5) & 0xF, ymd & 0x1F);
+	}
+
+	static long floorMod(final long value, final long divisor) {
+		return value - floorDiv(value, divisor) * divisor;
+	}
+
+	static long floorDiv(final long value, final long divisor) {
+		final long quotient = value / divisor;
+		return (value % divisor != 0 && (value ^ divisor) < 0) ? quotient - 1 : quotient;
+	}
+
+	private static void checkRange(final String field, final int value, final int min, final int max) {
+		if (value < min || value > max) {
+			throw new IllegalArgumentException("Value " + value + " for " + field + " must be in the range [" + min
+					+ "," + max + "]");
+		}
+	}
+
+}
@@ -1,25 +1,53 @@
 package com.thoughtworks.datetime;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.io.IOException;
 import java.util.Calendar;
 
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
-import org.joda.time.PeriodType;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.DateTimeZone;
 
 public class FiniteLocalDate extends LocalDate {
-	protected org.joda.time.LocalDate jodaLocalDate;
+	static volatile DatePool pool;
+
+	protected final int epochDay;
+
+	protected FiniteLocalDate(final int epochDay) {
+		this.epochDay = epochDay;
+	}
+
+	/**
+	 * Returns the interned instance for epochDay when interning is enabled
+	 * and covers it, otherwise a new one.
+	 */
+	static FiniteLocalDate of(final int epochDay) {
+		final DatePool current = pool;
+		if (current != null) {
+			final FiniteLocalDate date = current.get(epochDay);
+			if (date != null) {
+				return date;
+			}
+		}
+		return new FiniteLocalDate(epochDay);
+	}
 
 	protected FiniteLocalDate(final org.joda.time.LocalDate date) {
-		assert date != null;
-		jodaLocalDate = date;
+		this(EpochDays.of(date));
+	}
+
+	public int toEpochDay() {
+		return epochDay;
+	}
+
+	protected org.joda.time.LocalDate toJodaLocalDate() {
+		return EpochDays.toJoda(epochDay);
+	}
+
+	public long toEpochMillis() {
+		return DateTimeZone.getDefault().convertLocalToUTC(epochDay * EpochDays.MILLIS_PER_DAY, false);
 	}
 
 	public java.util.Date getDate() {
-		return jodaLocalDate.toDateMidnight().toDate();
+		return new java.util.Date(toEpochMillis());
 	}
 
 	@Override
@@ -32,7 +60,9 @@ public class FiniteLocalDate extends LocalDate {
 	}
 
 	public Calendar toCalendar() {
-		return jodaLocalDate.toDateMidnight().toCalendar(null);
+		final Calendar calendar = Calendar.getInstance(DateTimeZone.getDefault().toTimeZone());
+		calendar.setTimeInMillis(toEpochMillis());
+		return calendar;
 	}
 
 	public boolean isInfinite() {
@@ -40,59 +70,57 @@ public class FiniteLocalDate extends LocalDate {
 	}
 
 	public int getDayOfWeek() {
-		return jodaLocalDate.getDayOfWeek();
+		return EpochDays.dayOfWeek(epochDay);
 	}
 
 	public int getDayOfMonth() {
-		return jodaLocalDate.getDayOfMonth();
+		return EpochDays.dayOfMonth(epochDay);
 	}
 
 	public int getMonthOfYear() {
-		return jodaLocalDate.getMonthOfYear();
+		return EpochDays.monthOfYear(epochDay);
 	}
 
 	@Override
 	public int getWeekOfYear() {
-		return jodaLocalDate.getWeekOfWeekyear();
+		return EpochDays.weekOfWeekyear(epochDay);
 	}
 
 	public Day day() {
-		final int dayOfWeek = jodaLocalDate.getDayOfWeek();
-		return Day.values()[dayOfWeek - 1];
+		return Day.values()[getDayOfWeek() - 1];
 	}
 
 	public Month month() {
-		final int monthOfYear = jodaLocalDate.getMonthOfYear();
-		return Month.values()[monthOfYear - 1];
+		return Month.values()[getMonthOfYear() - 1];
 	}
 
 	public int getYear() {
-		return jodaLocalDate.getYear();
+		return EpochDays.year(epochDay);
 	}
 
 	@Override
 	public FiniteLocalDate minusDays(final int days) {
-		return new FiniteLocalDate(jodaLocalDate.minusDays(days));
+		return of(EpochDays.plusDays(epochDay, -days));
 	}
 
 	@Override
 	public FiniteLocalDate plusMonths(final int months) {
-		return new FiniteLocalDate(jodaLocalDate.plusMonths(months));
+		return of(EpochDays.plusMonths(epochDay, months));
 	}
 
 	@Override
 	public FiniteLocalDate minusMonths(final int months) {
-		return new FiniteLocalDate(jodaLocalDate.minusMonths(months));
+		return of(EpochDays.plusMonths(epochDay, -months));
 	}
 
 	@Override
 	public FiniteLocalDate plusDays(final int days) {
-		return new FiniteLocalDate(jodaLocalDate.plusDays(days));
+		return of(EpochDays.plusDays(epochDay, days));
 	}
 
 	public boolean isLastDayOfMonth() {
-		FiniteLocalDate date = plusDays(1);
-		return date.isFirstDayOfMonth();
+		final int ymd = EpochDays.decode(epochDay);
+		return (ymd & 0x1F) == EpochDays.lengthOfMonth(ymd >> 9, (ymd >> 5) & 0xF);
 	}
 
 	public boolean isFirstDayOfMonth() {
@@ -100,30 +128,21 @@ public class FiniteLocalDate extends LocalDate {
 	}
 
 	public boolean isWeekend() {
-		if (day() == Day.SUNDAY || day() == Day.SATURDAY) {
-			return true;
-		}
-		return false;
+		return getDayOfWeek() >= 6;
 	}
 
 	@Override
 	public LocalDate plusDuration(final Duration duration) {
 		assert duration != null;
-		return duration.isInfinite() ? LocalDate.infinite() : plusDays(duration.getDays());
+		return duration.isInfinite() ? LocalDate.infinite() : plusDays(duration.toDays());
 	}
 
 	public boolean isAfter(final Date date) {
-		if (date.isInfinite()) {
-			return false;
-		}
-		return jodaLocalDate.isAfter(new org.joda.time.LocalDate(date.getDate()));
+		return epochDay > date.toEpochDay();
 	}
 
 	public boolean isBefore(final Date date) {
-		if (date.isInfinite()) {
-			return true;
-		}
-		return jodaLocalDate.isBefore(new org.joda.time.LocalDate(date.getDate()));
+		return epochDay < date.toEpochDay();
 	}
 
 	public boolean isOnOrAfter(final Date date) {
@@ -135,11 +154,19 @@ public class FiniteLocalDate extends LocalDate {
 	}
 
 	public boolean isAfterNow() {
-		return jodaLocalDate.isAfter(new org.joda.time.LocalDate());
+		return epochDay > CurrentDate.epochDay();
 	}
 
 	public boolean isBeforeNow() {
-		return jodaLocalDate.isBefore(new org.joda.time.LocalDate());
+		return epochDay < CurrentDate.epochDay();
+	}
+
+	public boolean isAfterNow(final Clock clock) {
+		return epochDay > clock.epochDay();
+	}
+
+	public boolean isBeforeNow(final Clock clock) {
+		return epochDay < clock.epochDay();
 	}
 
 	public boolean isBetween(final Date start, final Date end) {
@@ -147,7 +174,11 @@ public class FiniteLocalDate extends LocalDate {
 	}
 
 	public int compareTo(final LocalDate date) {
-		return date.isInfinite() ? -1 : jodaLocalDate.compareTo(new org.joda.time.LocalDate(date.getDate()));
+		return compare(epochDay, date.toEpochDay());
+	}
+
+	static int compare(final int epochDay, final int otherEpochDay) {
+		return epochDay < otherEpochDay ? -1 : (epochDay == otherEpochDay ? 0 : 1);
 	}
 
 	@Override
@@ -160,21 +191,29 @@ public class FiniteLocalDate extends LocalDate {
 		return Duration.ofDays(daysUntil(date));
 	}
 
-	private int daysUntil(final Date date) {
-		return new org.joda.time.Period(getDate().getTime(), date.getDate().getTime(), PeriodType.days()).getDays();
+	/**
+	 * Counts the whole days from the start of this date until date, which is
+	 * negative when date is earlier.
+	 */
+	public int daysUntil(final Date date) {
+		final long seconds = EpochDays.localSecondsOf(date) - (long) epochDay * EpochDays.SECONDS_PER_DAY;
+		return (int) (seconds / EpochDays.SECONDS_PER_DAY);
+	}
+
+	public int monthsUntil(final Date date) {
+		return EpochDays.monthsBetweenLocalSeconds((long) epochDay * EpochDays.SECONDS_PER_DAY, EpochDays
+				.localSecondsOf(date));
+	}
+
+	public int yearsUntil(final Date date) {
+		return monthsUntil(date) / 12;
 	}
 
 	public static FiniteLocalDate parseDate(final String dateString, final String dateFormat) {
 		if (StringUtils.isEmpty(dateString)) {
 			return null;
 		}
-		final SimpleDateFormat format = new SimpleDateFormat(dateFormat);
-		format.setLenient(false);
-		try {
-			return FiniteLocalDate.onDate(format.parse(dateString));
-		} catch (final ParseException e) {
-			return null;
-		}
+		return DateParser.forPattern(dateFormat).parse(dateString);
 	}
 
 	@Override
@@ -185,17 +224,24 @@ public class FiniteLocalDate extends LocalDate {
 		if (!(obj instanceof FiniteLocalDate)) {
 			return false;
 		}
-		final FiniteLocalDate other = (FiniteLocalDate) obj;
-		return new EqualsBuilder().append(jodaLocalDate, other.jodaLocalDate).isEquals();
+		return epochDay == ((FiniteLocalDate) obj).epochDay;
 	}
 
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder().append(jodaLocalDate).toHashCode();
+		return epochDay;
 	}
 
 	public String format(final String pattern) {
-		return DateTimeFormat.forPattern(pattern).print(jodaLocalDate);
+		return DateFormatter.forPattern(pattern).print(this);
+	}
+
+	public void formatTo(final Appendable out, final String pattern) throws IOException {
+		DateFormatter.forPattern(pattern).printTo(out, this);
+	}
+
+	public void formatTo(final StringBuilder out, final String pattern) {
+		DateFormatter.forPattern(pattern).printTo(out, this);
 	}
 
 	@Override
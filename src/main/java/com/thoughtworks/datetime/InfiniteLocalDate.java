@@ -1,5 +1,6 @@
 package com.thoughtworks.datetime;
 
+import java.io.IOException;
 import java.util.Calendar;
 
 public final class InfiniteLocalDate extends LocalDate
@@ -15,6 +16,16 @@ public final class InfiniteLocalDate extends LocalDate
         throw new IllegalStateException("date is infinite");
     }
 
+    public int toEpochDay()
+    {
+        return EpochDays.INFINITE;
+    }
+
+    public long toEpochMillis()
+    {
+        return Long.MAX_VALUE;
+    }
+
     @Override
     public FiniteLocalDate toFiniteLocalDate()
     {
@@ -138,6 +149,16 @@ public final class InfiniteLocalDate extends LocalDate
     }
 
     public boolean isBeforeNow()
+    {
+        return false;
+    }
+
+    public boolean isAfterNow(final Clock clock)
+    {
+        return true;
+    }
+
+    public boolean isBeforeNow(final Clock clock)
     {
         return false;
     }
@@ -182,6 +203,11 @@ public final class InfiniteLocalDate extends LocalDate
         return "N/A";
     }
 
+    public void formatTo(final Appendable out, final String pattern) throws IOException
+    {
+        out.append("N/A");
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,139 @@
+package com.thoughtworks.datetime;
+
+/**
+ * Parses the fixed-width ISO-8601 shapes <code>yyyy-MM-dd</code> and
+ * <code>yyyy-MM-dd'T'HH:mm:ss</code> digit by digit, starting at an offset and
+ * ignoring any text that follows.
+ */
+public final class IsoDateParser {
+	public static final String DATE_PATTERN = "yyyy-MM-dd";
+	public static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+	public static final int DATE_LENGTH = 10;
+	public static final int DATE_TIME_LENGTH = 19;
+
+	private static final String DATE_SHAPE = "0000-00-00";
+	private static final String DATE_TIME_SHAPE = "0000-00-00T00:00:00";
+
+	private IsoDateParser() {
+	}
+
+	public static FiniteLocalDate parseDate(final CharSequence text) {
+		return parseDate(text, 0);
+	}
+
+	public static FiniteLocalDate parseDate(final CharSequence text, final int offset) {
+		final int epochDay = parseEpochDay(text, offset);
+		return epochDay == DateParser.INVALID ? null : FiniteLocalDate.of(epochDay);
+	}
+
+	public static LocalDateTime parseDateTime(final CharSequence text) {
+		return parseDateTime(text, 0);
+	}
+
+	public static LocalDateTime parseDateTime(final CharSequence text, final int offset) {
+		final int epochDay = parseEpochDay(text, offset);
+		final int secondOfDay = parseSecondOfDay(text, offset);
+		if (epochDay == DateParser.INVALID || secondOfDay < 0) {
+			return null;
+		}
+		return LocalDateTime.ofLocal(epochDay, secondOfDay);
+	}
+
+	public static boolean parseDateInto(final CharSequence text, final int offset, final ParseResult result) {
+		final int epochDay = parseEpochDay(text, offset);
+		if (epochDay == DateParser.INVALID) {
+			return diagnose(text, offset, DATE_SHAPE, result);
+		}
+		return result.succeed(epochDay, 0, offset + DATE_LENGTH);
+	}
+
+	public static boolean parseDateTimeInto(final CharSequence text, final int offset, final ParseResult result) {
+		final int epochDay = parseEpochDay(text, offset);
+		final int secondOfDay = parseSecondOfDay(text, offset);
+		if (epochDay == DateParser.INVALID || secondOfDay < 0) {
+			return diagnose(text, offset, DATE_TIME_SHAPE, result);
+		}
+		return result.succeed(epochDay, secondOfDay, offset + DATE_TIME_LENGTH);
+	}
+
+	public static int parseEpochDay(final CharSequence text, final int offset) {
+		if (text == null || offset < 0 || text.length() - offset < DATE_LENGTH) {
+			return DateParser.INVALID;
+		}
+		final int century = twoDigits(text, offset);
+		final int yearOfCentury = twoDigits(text, offset + 2);
+		final int month = twoDigits(text, offset + 5);
+		final int day = twoDigits(text, offset + 8);
+		if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1
+				|| text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+			return DateParser.INVALID;
+		}
+		final int year = century * 100 + yearOfCentury;
+		if (year < 1 || day > EpochDays.lengthOfMonth(year, month)) {
+			return DateParser.INVALID;
+		}
+		return EpochDays.of(year, month, day);
+	}
+
+	private static int parseSecondOfDay(final CharSequence text, final int offset) {
+		if (text == null || offset < 0 || text.length() - offset < DATE_TIME_LENGTH || text.charAt(offset + 10) != 'T'
+				|| text.charAt(offset + 13) != ':' || text.charAt(offset + 16) != ':') {
+			return -1;
+		}
+		final int hour = twoDigits(text, offset + 11);
+		final int minute = twoDigits(text, offset + 14);
+		final int second = twoDigits(text, offset + 17);
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return -1;
+		}
+		return hour * 3600 + minute * 60 + second;
+	}
+
+	/**
+	 * Works out why text failed to parse; only called once parsing has failed.
+	 */
+	private static boolean diagnose(final CharSequence text, final int offset, final String shape,
+			final ParseResult result) {
+		if (text == null || text.length() == 0) {
+			return result.fail(ParseResult.Reason.EMPTY, offset);
+		}
+		for (int i = 0; i < shape.length(); i++) {
+			final int index = offset + i;
+			if (index < 0 || index >= text.length()) {
+				return result.fail(ParseResult.Reason.END_OF_INPUT, index);
+			}
+			final char c = text.charAt(index);
+			if (shape.charAt(i) == '0') {
+				if (c < '0' || c > '9') {
+					return result.fail(ParseResult.Reason.EXPECTED_DIGIT, index);
+				}
+			} else if (c != shape.charAt(i)) {
+				return result.fail(ParseResult.Reason.UNEXPECTED_CHARACTER, index);
+			}
+		}
+		final int month = twoDigits(text, offset + 5);
+		if (twoDigits(text, offset) == 0 && twoDigits(text, offset + 2) == 0) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset);
+		} else if (month < 1 || month > 12) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset + 5);
+		} else if (parseEpochDay(text, offset) == DateParser.INVALID) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset + 8);
+		} else if (twoDigits(text, offset + 11) > 23) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset + 11);
+		} else if (twoDigits(text, offset + 14) > 59) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset + 14);
+		}
+		return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, offset + 17);
+	}
+
+	private static int twoDigits(final CharSequence text, final int index) {
+		final int tens = text.charAt(index) - '0';
+		final int units = text.charAt(index + 1) - '0';
+		if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+			return -1;
+		}
+		return tens * 10 + units;
+	}
+
+}
@@ -1,8 +1,5 @@
 package com.thoughtworks.datetime;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-
 import org.apache.commons.lang.StringUtils;
 
 public abstract class LocalDate implements Date, Comparable<LocalDate> {
@@ -11,19 +8,41 @@ public abstract class LocalDate implements Date, Comparable<LocalDate> {
 	}
 
 	public static FiniteLocalDate today() {
-		return new FiniteLocalDate(new org.joda.time.LocalDate());
+		return CurrentDate.today();
+	}
+
+	public static FiniteLocalDate today(final Clock clock) {
+		return FiniteLocalDate.of(clock.epochDay());
 	}
 
 	public static FiniteLocalDate on(final int year, final int month, final int day) {
-		return new FiniteLocalDate(new org.joda.time.LocalDate(year, month, day));
+		return FiniteLocalDate.of(EpochDays.of(year, month, day));
 	}
 
 	public static FiniteLocalDate on(final int year, final Month month, final int day) {
-		return new FiniteLocalDate(new org.joda.time.LocalDate(year, month.ordinal() + 1, day));
+		return FiniteLocalDate.of(EpochDays.of(year, month.ordinal() + 1, day));
 	}
 
 	public static FiniteLocalDate onDate(final java.util.Date time) {
-		return new FiniteLocalDate(new org.joda.time.LocalDate(time));
+		return FiniteLocalDate.of(EpochDays.ofDate(time));
+	}
+
+	/**
+	 * Makes the factory methods, date arithmetic and parsers return one shared
+	 * instance for each date within daysAroundToday of today, rather than a new
+	 * instance per call. The window is fixed when this is called, and
+	 * daysAroundToday may be at most 36525, a century either side.
+	 */
+	public static void enableInterning(final int daysAroundToday) {
+		FiniteLocalDate.pool = new DatePool(CurrentDate.epochDay(), daysAroundToday);
+	}
+
+	public static void disableInterning() {
+		FiniteLocalDate.pool = null;
+	}
+
+	public static boolean isInterningEnabled() {
+		return FiniteLocalDate.pool != null;
 	}
 
 	public static FiniteLocalDate daysAfterToday(final int days) {
@@ -64,13 +83,11 @@ public abstract class LocalDate implements Date, Comparable<LocalDate> {
 		if (StringUtils.isEmpty(dateString)) {
 			return null;
 		}
-		final SimpleDateFormat format = new SimpleDateFormat(pattern);
-		format.setLenient(false);
-		try {
-			return LocalDate.onDate(format.parse(dateString));
-		} catch (final ParseException e) {
-			return null;
-		}
+		return DateParser.forPattern(pattern).parse(dateString);
+	}
+
+	public static boolean parseDateInto(final CharSequence dateString, final String pattern, final ParseResult result) {
+		return DateParser.forPattern(pattern).parseInto(dateString, result);
 	}
 
 	@Override
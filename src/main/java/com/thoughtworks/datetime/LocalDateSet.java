@@ -0,0 +1,510 @@
+package com.thoughtworks.datetime;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of finite dates stored as bits over their epoch days. The days are
+ * split into chunks of 4096; a chunk holds a sorted array of its days while
+ * it is sparse and a bitmap once it is dense, so both scattered and
+ * contiguous dates are stored compactly. Membership and the first and last
+ * date take constant time. Instances are not thread-safe.
+ */
+public final class LocalDateSet extends AbstractSet<FiniteLocalDate> {
+	private static final int CHUNK_BITS = 12;
+	private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+	private static final int BITMAP_WORDS = (1 << CHUNK_BITS) / 64;
+	// an array of this many chars takes the same space as a bitmap
+	private static final int MAX_ARRAY_CARDINALITY = BITMAP_WORDS * 4;
+
+	private int[] keys = new int[4];
+	private Chunk[] chunks = new Chunk[4];
+	private int chunkCount;
+	private int size;
+	private int modCount;
+
+	public LocalDateSet() {
+	}
+
+	public LocalDateSet(final Collection<? extends FiniteLocalDate> dates) {
+		addAll(dates);
+	}
+
+	public static LocalDateSet of(final Period period) {
+		if (period.endEpochDay() == EpochDays.INFINITE) {
+			throw new IllegalArgumentException("period is infinite");
+		}
+		final LocalDateSet set = new LocalDateSet();
+		for (final PeriodDays.EpochDayIterator days = period.days().epochDays(); days.hasNext();) {
+			set.addEpochDay(days.nextEpochDay());
+		}
+		return set;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean contains(final Object object) {
+		return object instanceof FiniteLocalDate && containsEpochDay(((FiniteLocalDate) object).toEpochDay());
+	}
+
+	public boolean containsEpochDay(final int epochDay) {
+		final int index = indexOf(epochDay >> CHUNK_BITS);
+		return index >= 0 && chunks[index].contains(epochDay & CHUNK_MASK);
+	}
+
+	@Override
+	public boolean add(final FiniteLocalDate date) {
+		return addEpochDay(date.toEpochDay());
+	}
+
+	public boolean addEpochDay(final int epochDay) {
+		final int key = epochDay >> CHUNK_BITS;
+		int index = indexOf(key);
+		if (index < 0) {
+			index = -index - 1;
+			insertChunk(index, key, new Chunk());
+		}
+		if (!chunks[index].add(epochDay & CHUNK_MASK)) {
+			return false;
+		}
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(final Object object) {
+		return object instanceof FiniteLocalDate && removeEpochDay(((FiniteLocalDate) object).toEpochDay());
+	}
+
+	public boolean removeEpochDay(final int epochDay) {
+		final int index = indexOf(epochDay >> CHUNK_BITS);
+		if (index < 0 || !chunks[index].remove(epochDay & CHUNK_MASK)) {
+			return false;
+		}
+		if (chunks[index].cardinality == 0) {
+			removeChunk(index);
+		}
+		size--;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(chunks, 0, chunkCount, null);
+		chunkCount = 0;
+		size = 0;
+		modCount++;
+	}
+
+	public FiniteLocalDate first() {
+		return FiniteLocalDate.of(minEpochDay());
+	}
+
+	public FiniteLocalDate last() {
+		return FiniteLocalDate.of(maxEpochDay());
+	}
+
+	public int minEpochDay() {
+		if (size == 0) {
+			throw new NoSuchElementException("set is empty");
+		}
+		return (keys[0] << CHUNK_BITS) | chunks[0].first();
+	}
+
+	public int maxEpochDay() {
+		if (size == 0) {
+			throw new NoSuchElementException("set is empty");
+		}
+		return (keys[chunkCount - 1] << CHUNK_BITS) | chunks[chunkCount - 1].last();
+	}
+
+	public LocalDateSet union(final LocalDateSet other) {
+		final LocalDateSet result = new LocalDateSet();
+		int i = 0;
+		int j = 0;
+		while (i < chunkCount || j < other.chunkCount) {
+			if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+				result.appendChunk(keys[i], chunks[i].copy());
+				i++;
+			} else if (i == chunkCount || other.keys[j] < keys[i]) {
+				result.appendChunk(other.keys[j], other.chunks[j].copy());
+				j++;
+			} else {
+				result.appendChunk(keys[i], Chunk.union(chunks[i], other.chunks[j]));
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	public LocalDateSet intersection(final LocalDateSet other) {
+		final LocalDateSet result = new LocalDateSet();
+		int i = 0;
+		int j = 0;
+		while (i < chunkCount && j < other.chunkCount) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (other.keys[j] < keys[i]) {
+				j++;
+			} else {
+				result.appendChunk(keys[i], Chunk.intersection(chunks[i], other.chunks[j]));
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	public LocalDateSet difference(final LocalDateSet other) {
+		final LocalDateSet result = new LocalDateSet();
+		int j = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			while (j < other.chunkCount && other.keys[j] < keys[i]) {
+				j++;
+			}
+			if (j < other.chunkCount && other.keys[j] == keys[i]) {
+				result.appendChunk(keys[i], Chunk.difference(chunks[i], other.chunks[j]));
+			} else {
+				result.appendChunk(keys[i], chunks[i].copy());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends FiniteLocalDate> dates) {
+		if (dates instanceof LocalDateSet) {
+			return replaceWith(union((LocalDateSet) dates));
+		}
+		return super.addAll(dates);
+	}
+
+	@Override
+	public boolean retainAll(final Collection<?> dates) {
+		if (dates instanceof LocalDateSet) {
+			return replaceWith(intersection((LocalDateSet) dates));
+		}
+		return super.retainAll(dates);
+	}
+
+	@Override
+	public boolean removeAll(final Collection<?> dates) {
+		if (dates instanceof LocalDateSet) {
+			return replaceWith(difference((LocalDateSet) dates));
+		}
+		return super.removeAll(dates);
+	}
+
+	@Override
+	public Iterator<FiniteLocalDate> iterator() {
+		return new Iterator<FiniteLocalDate>() {
+			private int chunkIndex = 0;
+			private int nextLow = chunkCount == 0 ? -1 : chunks[0].first();
+			private int lastEpochDay;
+			private boolean canRemove;
+			private int expectedModCount = modCount;
+
+			public boolean hasNext() {
+				return nextLow >= 0;
+			}
+
+			public FiniteLocalDate next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (nextLow < 0) {
+					throw new NoSuchElementException();
+				}
+				final int key = keys[chunkIndex];
+				lastEpochDay = (key << CHUNK_BITS) | nextLow;
+				nextLow = chunks[chunkIndex].next(nextLow + 1);
+				if (nextLow < 0 && ++chunkIndex < chunkCount) {
+					nextLow = chunks[chunkIndex].first();
+				}
+				canRemove = true;
+				return FiniteLocalDate.of(lastEpochDay);
+			}
+
+			public void remove() {
+				if (!canRemove) {
+					throw new IllegalStateException();
+				}
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				final int chunksBefore = chunkCount;
+				removeEpochDay(lastEpochDay);
+				if (chunkCount < chunksBefore) {
+					chunkIndex--;
+				}
+				expectedModCount = modCount;
+				canRemove = false;
+			}
+		};
+	}
+
+	private boolean replaceWith(final LocalDateSet other) {
+		final boolean changed = other.size != size || !other.equals(this);
+		keys = other.keys;
+		chunks = other.chunks;
+		chunkCount = other.chunkCount;
+		size = other.size;
+		modCount++;
+		return changed;
+	}
+
+	private int indexOf(final int key) {
+		return Arrays.binarySearch(keys, 0, chunkCount, key);
+	}
+
+	private void appendChunk(final int key, final Chunk chunk) {
+		if (chunk.cardinality > 0) {
+			insertChunk(chunkCount, key, chunk);
+			size += chunk.cardinality;
+		}
+	}
+
+	private void insertChunk(final int index, final int key, final Chunk chunk) {
+		if (chunkCount == keys.length) {
+			keys = Arrays.copyOf(keys, chunkCount * 2);
+			chunks = Arrays.copyOf(chunks, chunkCount * 2);
+		}
+		System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+		System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+		keys[index] = key;
+		chunks[index] = chunk;
+		chunkCount++;
+	}
+
+	private void removeChunk(final int index) {
+		System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+		System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+		chunks[--chunkCount] = null;
+	}
+
+	/**
+	 * The days of one chunk, as a sorted array while there are at most
+	 * MAX_ARRAY_CARDINALITY of them and as a bitmap after that.
+	 */
+	private static final class Chunk {
+		char[] values;
+		long[] bits;
+		int cardinality;
+
+		Chunk() {
+			values = new char[4];
+		}
+
+		private Chunk(final char[] values, final long[] bits, final int cardinality) {
+			this.values = values;
+			this.bits = bits;
+			this.cardinality = cardinality;
+		}
+
+		Chunk copy() {
+			return new Chunk(values == null ? null : values.clone(), bits == null ? null : bits.clone(), cardinality);
+		}
+
+		boolean contains(final int low) {
+			if (bits != null) {
+				return (bits[low >>> 6] & (1L << low)) != 0;
+			}
+			return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+		}
+
+		boolean add(final int low) {
+			if (bits != null) {
+				final long before = bits[low >>> 6];
+				bits[low >>> 6] = before | (1L << low);
+				if (before == bits[low >>> 6]) {
+					return false;
+				}
+				cardinality++;
+				return true;
+			}
+			final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+			if (index >= 0) {
+				return false;
+			}
+			if (cardinality == MAX_ARRAY_CARDINALITY) {
+				toBitmap();
+				return add(low);
+			}
+			final int insertAt = -index - 1;
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(cardinality * 2, MAX_ARRAY_CARDINALITY));
+			}
+			System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+			values[insertAt] = (char) low;
+			cardinality++;
+			return true;
+		}
+
+		boolean remove(final int low) {
+			if (bits != null) {
+				final long before = bits[low >>> 6];
+				bits[low >>> 6] = before & ~(1L << low);
+				if (before == bits[low >>> 6]) {
+					return false;
+				}
+				if (--cardinality <= MAX_ARRAY_CARDINALITY / 2) {
+					toArray();
+				}
+				return true;
+			}
+			final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+			if (index < 0) {
+				return false;
+			}
+			System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+			cardinality--;
+			return true;
+		}
+
+		int first() {
+			return next(0);
+		}
+
+		int last() {
+			if (bits == null) {
+				return values[cardinality - 1];
+			}
+			for (int word = BITMAP_WORDS - 1; word >= 0; word--) {
+				if (bits[word] != 0) {
+					return word * 64 + 63 - Long.numberOfLeadingZeros(bits[word]);
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Returns the lowest day in the chunk at or after low, or -1.
+		 */
+		int next(final int low) {
+			if (low > CHUNK_MASK) {
+				return -1;
+			}
+			if (bits == null) {
+				int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+				if (index < 0) {
+					index = -index - 1;
+				}
+				return index < cardinality ? values[index] : -1;
+			}
+			int word = low >>> 6;
+			long remaining = bits[word] & (-1L << low);
+			while (remaining == 0) {
+				if (++word == BITMAP_WORDS) {
+					return -1;
+				}
+				remaining = bits[word];
+			}
+			return word * 64 + Long.numberOfTrailingZeros(remaining);
+		}
+
+		private void toBitmap() {
+			bits = new long[BITMAP_WORDS];
+			for (int i = 0; i < cardinality; i++) {
+				bits[values[i] >>> 6] |= 1L << values[i];
+			}
+			values = null;
+		}
+
+		private void toArray() {
+			values = new char[Math.max(cardinality, 4)];
+			int count = 0;
+			for (int low = next(0); low >= 0; low = next(low + 1)) {
+				values[count++] = (char) low;
+			}
+			bits = null;
+		}
+
+		private long[] toBits() {
+			if (bits != null) {
+				return bits.clone();
+			}
+			final long[] result = new long[BITMAP_WORDS];
+			for (int i = 0; i < cardinality; i++) {
+				result[values[i] >>> 6] |= 1L << values[i];
+			}
+			return result;
+		}
+
+		static Chunk union(final Chunk a, final Chunk b) {
+			final long[] bits = a.toBits();
+			final long[] other = b.bits != null ? b.bits : b.toBits();
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				bits[word] |= other[word];
+			}
+			return fromBits(bits);
+		}
+
+		static Chunk intersection(final Chunk a, final Chunk b) {
+			if (a.bits == null || b.bits == null) {
+				final Chunk sparse = a.bits == null ? a : b;
+				final Chunk dense = sparse == a ? b : a;
+				final char[] values = new char[Math.max(sparse.cardinality, 4)];
+				int count = 0;
+				for (int i = 0; i < sparse.cardinality; i++) {
+					if (dense.contains(sparse.values[i])) {
+						values[count++] = sparse.values[i];
+					}
+				}
+				return new Chunk(values, null, count);
+			}
+			final long[] bits = a.bits.clone();
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				bits[word] &= b.bits[word];
+			}
+			return fromBits(bits);
+		}
+
+		static Chunk difference(final Chunk a, final Chunk b) {
+			if (a.bits == null) {
+				final char[] values = new char[Math.max(a.cardinality, 4)];
+				int count = 0;
+				for (int i = 0; i < a.cardinality; i++) {
+					if (!b.contains(a.values[i])) {
+						values[count++] = a.values[i];
+					}
+				}
+				return new Chunk(values, null, count);
+			}
+			final long[] bits = a.bits.clone();
+			final long[] other = b.bits != null ? b.bits : b.toBits();
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				bits[word] &= ~other[word];
+			}
+			return fromBits(bits);
+		}
+
+		private static Chunk fromBits(final long[] bits) {
+			int cardinality = 0;
+			for (final long word : bits) {
+				cardinality += Long.bitCount(word);
+			}
+			final Chunk chunk = new Chunk(null, bits, cardinality);
+			if (cardinality <= MAX_ARRAY_CARDINALITY) {
+				chunk.toArray();
+			}
+			return chunk;
+		}
+	}
+
+}
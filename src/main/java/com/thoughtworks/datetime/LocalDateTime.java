@@ -1,49 +1,62 @@
 package com.thoughtworks.datetime;
 
+import java.io.IOException;
 import java.util.Calendar;
 
 import org.apache.commons.lang.StringUtils;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
 import org.joda.time.MutableDateTime;
-import org.joda.time.Period;
-import org.joda.time.PeriodType;
 import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 
 public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
-	private static boolean isSystemDateTimeFixed = false;
+	private static volatile boolean isSystemDateTimeFixed = false;
+	private static volatile CoarseClock coarseClock;
 
-	private DateTime jodaDateTime;
+	// seconds since 1970-01-01T00:00:00 in local time, ignoring the zone
+	private final long localSeconds;
 
 	protected LocalDateTime(final DateTime time) {
-		assert time != null;
-		jodaDateTime = time;
+		this(localSecondsOf(time.getMillis(), time.getZone()));
+	}
+
+	private LocalDateTime(final long localSeconds) {
+		this.localSeconds = localSeconds;
 	}
 
 	public static LocalDateTime now() {
-		return new LocalDateTime(new DateTime().withMillisOfSecond(0));
+		final CoarseClock clock = coarseClock;
+		if (clock != null && !isSystemDateTimeFixed) {
+			return clock.now();
+		}
+		return ofMillis(DateTimeUtils.currentTimeMillis(), DateTimeZone.getDefault());
+	}
+
+	public static LocalDateTime now(final Clock clock) {
+		return ofMillis(clock.millis(), clock.getZone());
 	}
 
 	public static LocalDateTime at(final int year, final int month, final int day, final int hour, final int minute,
 			final int second) {
-		return new LocalDateTime(new DateTime(year, month, day, hour, minute, second, 0));
+		return ofLocal(EpochDays.of(year, month, day), EpochDays.secondOfDay(hour, minute, second));
 	}
 
 	public static LocalDateTime at(final int year, final Month month, final int day, final int hour, final int minute,
 			final int second) {
-		return new LocalDateTime(new DateTime(year, month.ordinal() + 1, day, hour, minute, second, 0));
+		return at(year, month.ordinal() + 1, day, hour, minute, second);
 	}
 
 	public static LocalDateTime onDate(final java.util.Date time) {
-		return new LocalDateTime(new DateTime(time).withMillisOfSecond(0));
+		return ofMillis(time.getTime(), DateTimeZone.getDefault());
 	}
 
 	public static LocalDateTime onDateAt(final Date date, final int hour, final int minute, final int second) {
-		final MutableDateTime dateTime = new MutableDateTime(date.getDate());
-		dateTime.setHourOfDay(hour);
-		dateTime.setMinuteOfHour(minute);
-		dateTime.setSecondOfMinute(second);
-		return new LocalDateTime(dateTime.toDateTime());
+		if (date.isInfinite()) {
+			throw new IllegalStateException("date is infinite");
+		}
+		return ofLocal(date.toEpochDay(), EpochDays.secondOfDay(hour, minute, second));
 	}
 
 	public static LocalDateTime atMidnightDaysBeforeToday(final int days) {
@@ -55,8 +68,7 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 	}
 
 	public static LocalDateTime atDaysBeforeToday(final int days) {
-		return onDateAt(LocalDate.daysBeforeToday(days), now().hourOfDay(), now().minuteOfHour(), now()
-				.secondOfMinute());
+		return now().minusDays(days);
 	}
 
 	public static LocalDateTime hoursBeforeNow(final int hours) {
@@ -67,98 +79,135 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 		return now().plusHours(hours);
 	}
 
+	static LocalDateTime ofLocal(final int epochDay, final int secondOfDay) {
+		return new LocalDateTime((long) epochDay * EpochDays.SECONDS_PER_DAY + secondOfDay);
+	}
+
+	/**
+	 * Returns the local date time in zone at millis, truncated to the second.
+	 */
+	static LocalDateTime ofMillis(final long millis, final DateTimeZone zone) {
+		return new LocalDateTime(localSecondsOf(millis, zone));
+	}
+
+	private static long localSecondsOf(final long millis, final DateTimeZone zone) {
+		return EpochDays.floorDiv(millis + zone.getOffset(millis), 1000);
+	}
+
+	/**
+	 * Returns the instant of this local date time in the default zone; a time
+	 * skipped by a daylight saving gap resolves to the instant after the gap.
+	 */
+	public long toEpochMillis() {
+		return DateTimeZone.getDefault().convertLocalToUTC(localSeconds * 1000, false);
+	}
+
+	DateTime toJodaDateTime() {
+		return new DateTime(toEpochMillis());
+	}
+
+	long localSeconds() {
+		return localSeconds;
+	}
+
+	public int toEpochDay() {
+		return (int) EpochDays.floorDiv(localSeconds, EpochDays.SECONDS_PER_DAY);
+	}
+
+	int localSecondOfDay() {
+		return (int) EpochDays.floorMod(localSeconds, EpochDays.SECONDS_PER_DAY);
+	}
+
 	public LocalDate toLocalDate() {
-		return new FiniteLocalDate(jodaDateTime.toDateMidnight().toLocalDate());
+		return FiniteLocalDate.of(toEpochDay());
 	}
 
 	public java.util.Date getDate() {
-		return jodaDateTime.toDate();
+		return new java.util.Date(toEpochMillis());
 	}
 
 	public Calendar toCalendar() {
-		return jodaDateTime.toCalendar(null);
+		return toJodaDateTime().toCalendar(null);
 	}
 
 	public int getDayOfWeek() {
-		return jodaDateTime.getDayOfWeek();
+		return EpochDays.dayOfWeek(toEpochDay());
 	}
 
 	public int getDayOfMonth() {
-		return jodaDateTime.getDayOfMonth();
+		return EpochDays.dayOfMonth(toEpochDay());
 	}
 
 	public int getMonthOfYear() {
-		return jodaDateTime.getMonthOfYear();
+		return EpochDays.monthOfYear(toEpochDay());
 	}
 
 	public int getWeekOfYear() {
-		return jodaDateTime.getWeekOfWeekyear();
+		return EpochDays.weekOfWeekyear(toEpochDay());
 	}
 
 	public Day day() {
-		final int dayOfWeek = jodaDateTime.getDayOfWeek();
-		return Day.values()[dayOfWeek - 1];
+		return Day.values()[getDayOfWeek() - 1];
 	}
 
 	public Month month() {
-		final int monthOfYear = jodaDateTime.getMonthOfYear();
-		return Month.values()[monthOfYear - 1];
+		return Month.values()[getMonthOfYear() - 1];
 	}
 
 	public int getYear() {
-		return jodaDateTime.getYear();
+		return EpochDays.year(toEpochDay());
 	}
 
 	public int hourOfDay() {
-		return jodaDateTime.getHourOfDay();
+		return localSecondOfDay() / 3600;
 	}
 
 	public int minuteOfHour() {
-		return jodaDateTime.getMinuteOfHour();
+		return localSecondOfDay() / 60 % 60;
 	}
 
 	public int secondOfMinute() {
-		return jodaDateTime.getSecondOfMinute();
+		return localSecondOfDay() % 60;
 	}
 
 	public LocalDateTime plusDays(final int days) {
-		return new LocalDateTime(jodaDateTime.plusDays(days));
+		return ofLocal(EpochDays.plusDays(toEpochDay(), days), localSecondOfDay());
 	}
 
 	public LocalDateTime minusDays(final int days) {
-		return new LocalDateTime(jodaDateTime.minusDays(days));
+		return ofLocal(EpochDays.plusDays(toEpochDay(), -days), localSecondOfDay());
 	}
 
 	public LocalDateTime plusHours(final int hours) {
-		return new LocalDateTime(jodaDateTime.plusHours(hours));
+		return new LocalDateTime(localSeconds + hours * 3600L);
 	}
 
 	public LocalDateTime minusHours(final int hours) {
-		return new LocalDateTime(jodaDateTime.minusHours(hours));
+		return new LocalDateTime(localSeconds - hours * 3600L);
 	}
 
 	public LocalDateTime plusMinutes(final int minutes) {
-		return new LocalDateTime(jodaDateTime.plusMinutes(minutes));
+		return new LocalDateTime(localSeconds + minutes * 60L);
 	}
 
 	public LocalDateTime minusMinutes(final int minutes) {
-		return new LocalDateTime(jodaDateTime.minusMinutes(minutes));
+		return new LocalDateTime(localSeconds - minutes * 60L);
 	}
 
 	public LocalDateTime plusSeconds(final int seconds) {
-		return new LocalDateTime(jodaDateTime.plusSeconds(seconds));
+		return new LocalDateTime(localSeconds + seconds);
 	}
 
 	public LocalDateTime minusSeconds(final int seconds) {
-		return new LocalDateTime(jodaDateTime.minusSeconds(seconds));
+		return new LocalDateTime(localSeconds - seconds);
 	}
 
 	public boolean isAfter(final Date date) {
-		return jodaDateTime.isAfter(new DateTime(date.getDate()));
+		return !date.isInfinite() && localSeconds > EpochDays.localSecondsOf(date);
 	}
 
 	public boolean isBefore(final Date date) {
-		return jodaDateTime.isBefore(new DateTime(date.getDate()));
+		return date.isInfinite() || localSeconds < EpochDays.localSecondsOf(date);
 	}
 
 	public boolean isOnOrAfter(final Date date) {
@@ -170,11 +219,19 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 	}
 
 	public boolean isAfterNow() {
-		return jodaDateTime.isAfterNow();
+		return toEpochMillis() > DateTimeUtils.currentTimeMillis();
 	}
 
 	public boolean isBeforeNow() {
-		return jodaDateTime.isBeforeNow();
+		return toEpochMillis() < DateTimeUtils.currentTimeMillis();
+	}
+
+	public boolean isAfterNow(final Clock clock) {
+		return localSeconds > localSecondsOf(clock.millis(), clock.getZone());
+	}
+
+	public boolean isBeforeNow(final Clock clock) {
+		return localSeconds < localSecondsOf(clock.millis(), clock.getZone());
 	}
 
 	public boolean isBetween(final Date start, final Date end) {
@@ -182,7 +239,7 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 	}
 	
 	public int compareTo(final LocalDateTime dateTime) {
-		return jodaDateTime.compareTo(dateTime.jodaDateTime);
+		return localSeconds < dateTime.localSeconds ? -1 : (localSeconds == dateTime.localSeconds ? 0 : 1);
 	}
 
 	public boolean isInfinite() {
@@ -190,7 +247,7 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 	}
 
 	public static void setSystemDateTime(final LocalDateTime dateTime) {
-		DateTimeUtils.setCurrentMillisFixed(dateTime.jodaDateTime.getMillis());
+		DateTimeUtils.setCurrentMillisFixed(dateTime.toEpochMillis());
 		isSystemDateTimeFixed = true;
 	}
 
@@ -203,8 +260,52 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 		return isSystemDateTimeFixed;
 	}
 
+	/**
+	 * Makes {@link #now()} return a shared instance for the current second,
+	 * published by a background thread, instead of allocating one per call.
+	 */
+	public static synchronized void enableCoarseClock() {
+		if (coarseClock == null) {
+			coarseClock = CoarseClock.start();
+		}
+	}
+
+	public static synchronized void disableCoarseClock() {
+		if (coarseClock != null) {
+			coarseClock.stop();
+			coarseClock = null;
+		}
+	}
+
+	public static boolean isCoarseClockEnabled() {
+		return coarseClock != null;
+	}
+
+	/**
+	 * Counts the whole days from this date time until date, which is negative
+	 * when date is earlier.
+	 */
 	public int daysUntil(final Date date) {
-		return new Period(getDate().getTime(), date.getDate().getTime(), PeriodType.days()).getDays();
+		return (int) ((EpochDays.localSecondsOf(date) - localSeconds) / EpochDays.SECONDS_PER_DAY);
+	}
+
+	public Duration durationUntil(final Date date) {
+		if (date.isInfinite()) {
+			return Duration.infinite();
+		}
+		final long seconds = EpochDays.localSecondsOf(date) - localSeconds;
+		if (seconds < 0) {
+			throw new IllegalArgumentException("cannot get duration to earlier date");
+		}
+		return Duration.ofDays((int) (seconds / EpochDays.SECONDS_PER_DAY));
+	}
+
+	public int monthsUntil(final Date date) {
+		return EpochDays.monthsBetweenLocalSeconds(localSeconds, EpochDays.localSecondsOf(date));
+	}
+
+	public int yearsUntil(final Date date) {
+		return monthsUntil(date) / 12;
 	}
 
 	public static LocalDateTime parseDateTime(final String dateTimeString, final String pattern) {
@@ -212,19 +313,55 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 			return null;
 		}
 
-		final MutableDateTime mutableDateTime = new MutableDateTime();
+		final ParseResult result = new ParseResult();
+		return parseDateTimeInto(dateTimeString, pattern, result) ? result.toLocalDateTime() : null;
+	}
 
-		if (DateTimeFormat.forPattern(pattern).parseInto(mutableDateTime, dateTimeString, 0) < 0) {
-			return null;
+	public static boolean parseDateTimeInto(final CharSequence dateTimeString, final String pattern,
+			final ParseResult result) {
+		if (dateTimeString == null || dateTimeString.length() == 0) {
+			return result.fail(ParseResult.Reason.EMPTY, 0);
 		}
 
-		return LocalDateTime.at(mutableDateTime.getYear(), mutableDateTime.getMonthOfYear(), mutableDateTime
-				.getDayOfMonth(), mutableDateTime.getHourOfDay(), mutableDateTime.getMinuteOfHour(), mutableDateTime
-				.getSecondOfMinute());
+		if (IsoDateParser.DATE_TIME_PATTERN.equals(pattern)
+				&& IsoDateParser.parseDateTimeInto(dateTimeString, 0, result)) {
+			return true;
+		}
+
+		// parse the local fields in UTC, which has no gaps, so a time skipped by
+		// the default zone's daylight saving change is accepted as on the ISO path
+		final DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern).withZone(DateTimeZone.UTC);
+		final MutableDateTime mutableDateTime = new MutableDateTime(localSecondsOf(DateTimeUtils.currentTimeMillis(),
+				DateTimeZone.getDefault()) * 1000, DateTimeZone.UTC);
+		final int position;
+		try {
+			position = formatter.parseInto(mutableDateTime, dateTimeString.toString(), 0);
+		} catch (final IllegalArgumentException e) {
+			// Joda rejects out of range field values only once the text has parsed
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, 0);
+		}
+		if (position < 0) {
+			return result.fail(ParseResult.Reason.UNPARSEABLE, ~position);
+		}
+		if (mutableDateTime.getYear() < EpochDays.MIN_YEAR || mutableDateTime.getYear() > EpochDays.MAX_YEAR) {
+			return result.fail(ParseResult.Reason.FIELD_OUT_OF_RANGE, 0);
+		}
+
+		final int epochDay = EpochDays.of(mutableDateTime.getYear(), mutableDateTime.getMonthOfYear(),
+				mutableDateTime.getDayOfMonth());
+		return result.succeed(epochDay, mutableDateTime.getSecondOfDay(), position);
 	}
 
 	public String format(final String pattern) {
-		return DateTimeFormat.forPattern(pattern).print(jodaDateTime);
+		return DateFormatter.forPattern(pattern).print(this);
+	}
+
+	public void formatTo(final Appendable out, final String pattern) throws IOException {
+		DateFormatter.forPattern(pattern).printTo(out, this);
+	}
+
+	public void formatTo(final StringBuilder out, final String pattern) {
+		DateFormatter.forPattern(pattern).printTo(out, this);
 	}
 
 	public String toString() {
@@ -235,11 +372,11 @@ public class LocalDateTime implements Date, Time, Comparable<LocalDateTime> {
 		if (!(other instanceof LocalDateTime)) {
 			return false;
 		}
-		return jodaDateTime.equals(((LocalDateTime) other).jodaDateTime);
+		return localSeconds == ((LocalDateTime) other).localSeconds;
 	}
 
 	public int hashCode() {
-		return jodaDateTime.hashCode();
+		return (int) (localSeconds ^ (localSeconds >>> 32));
 	}
 
 }
@@ -0,0 +1,97 @@
+package com.thoughtworks.datetime;
+
+/**
+ * A reusable holder for the outcome of a parse: either the parsed epoch day
+ * and second of day, or the reason for failure and the index it occurred at.
+ * Instances are not thread-safe.
+ */
+public final class ParseResult {
+	public enum Reason {
+		NONE, EMPTY, END_OF_INPUT, EXPECTED_DIGIT, UNEXPECTED_CHARACTER, FIELD_OUT_OF_RANGE, UNPARSEABLE
+	};
+
+	private Reason reason;
+	private int errorIndex;
+	private int endIndex;
+	private int epochDay;
+	private int secondOfDay;
+
+	public ParseResult() {
+		reset();
+	}
+
+	public void reset() {
+		reason = Reason.NONE;
+		errorIndex = -1;
+		endIndex = -1;
+		epochDay = DateParser.INVALID;
+		secondOfDay = 0;
+	}
+
+	public boolean isSuccess() {
+		return reason == Reason.NONE && epochDay != DateParser.INVALID;
+	}
+
+	public Reason getReason() {
+		return reason;
+	}
+
+	public int getErrorIndex() {
+		return errorIndex;
+	}
+
+	public int getEndIndex() {
+		return endIndex;
+	}
+
+	public int getEpochDay() {
+		checkSuccess();
+		return epochDay;
+	}
+
+	public int getSecondOfDay() {
+		checkSuccess();
+		return secondOfDay;
+	}
+
+	public FiniteLocalDate toLocalDate() {
+		return isSuccess() ? FiniteLocalDate.of(epochDay) : null;
+	}
+
+	public LocalDateTime toLocalDateTime() {
+		if (!isSuccess()) {
+			return null;
+		}
+		return LocalDateTime.ofLocal(epochDay, secondOfDay);
+	}
+
+	boolean succeed(final int epochDay, final int secondOfDay, final int endIndex) {
+		this.reason = Reason.NONE;
+		this.errorIndex = -1;
+		this.endIndex = endIndex;
+		this.epochDay = epochDay;
+		this.secondOfDay = secondOfDay;
+		return true;
+	}
+
+	boolean fail(final Reason reason, final int errorIndex) {
+		this.reason = reason;
+		this.errorIndex = errorIndex;
+		this.endIndex = -1;
+		this.epochDay = DateParser.INVALID;
+		this.secondOfDay = 0;
+		return false;
+	}
+
+	private void checkSuccess() {
+		if (!isSuccess()) {
+			throw new IllegalStateException("parse failed: " + reason + " at index " + errorIndex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return isSuccess() ? "parsed " + epochDay + "/" + secondOfDay : reason + " at index " + errorIndex;
+	}
+
+}
@@ -2,28 +2,25 @@ package com.thoughtworks.datetime;
 
 import java.util.Set;
 
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
-
 public class Period {
-	private final LocalDate startDate;
-	private final Duration duration;
-	private final LocalDate endDate;
+	// the first day, or EpochDays.INFINITE for an infinite start date
+	private final int startEpochDay;
+	// the number of days, or -1 for an infinite duration
+	private final int durationDays;
 
 	protected Period(final LocalDate startDate, final Duration duration, final LocalDate endDate) {
 		assert !startDate.isInfinite() || endDate.isInfinite();
 		assert !duration.isInfinite() || endDate.isInfinite();
-		assert endDate.isInfinite() || startDate.plusDays(duration.getDays() - 1).equals(endDate);
-		this.startDate = startDate;
-		this.duration = duration;
-		this.endDate = endDate;
+		assert endDate.isInfinite() || startDate.plusDays(duration.toDays() - 1).equals(endDate);
+		this.startEpochDay = startDate.toEpochDay();
+		this.durationDays = duration.isInfinite() ? -1 : duration.toDays();
 	}
 
 	public static Period of(final LocalDate startDate, final Duration duration) {
 		assert startDate != null;
 		assert duration != null;
 		final LocalDate endDate = duration.isInfinite() ? LocalDate.infinite() : startDate
-				.plusDays(duration.getDays() - 1);
+				.plusDays(duration.toDays() - 1);
 		return new Period(startDate, duration, endDate);
 	}
 
@@ -32,35 +29,64 @@ public class Period {
 		assert endDate != null;
 		final Duration exclusiveDuration = startDate.durationUntil(endDate);
 		final Duration inclusiveDuration = exclusiveDuration.isInfinite() ? exclusiveDuration : Duration
-				.ofDays(exclusiveDuration.getDays() + 1);
+				.ofDays(exclusiveDuration.toDays() + 1);
 		return new Period(startDate, inclusiveDuration, endDate);
 	}
 
 	public LocalDate getStartDate() {
-		return startDate;
+		return startEpochDay == EpochDays.INFINITE ? LocalDate.infinite() : FiniteLocalDate.of(startEpochDay);
 	}
 
 	public Duration getDuration() {
-		return duration;
+		return durationDays < 0 ? Duration.infinite() : Duration.ofDays(durationDays);
 	}
 
 	public LocalDate getEndDate() {
-		return endDate;
+		final int endEpochDay = endEpochDay();
+		return endEpochDay == EpochDays.INFINITE ? LocalDate.infinite() : FiniteLocalDate.of(endEpochDay);
+	}
+
+	int startEpochDay() {
+		return startEpochDay;
+	}
+
+	int endEpochDay() {
+		if (startEpochDay == EpochDays.INFINITE || durationDays < 0) {
+			return EpochDays.INFINITE;
+		}
+		return startEpochDay + durationDays - 1;
+	}
+
+	public PeriodDays days() {
+		final int endEpochDay = endEpochDay();
+		if (endEpochDay == EpochDays.INFINITE) {
+			throw new IllegalStateException("cannot iterate the days of an infinite period");
+		}
+		return new PeriodDays(startEpochDay, endEpochDay);
 	}
 
 	public boolean isOverlapping(final Period period) {
-		return startDate.isOnOrBefore(period.getEndDate()) && endDate.isOnOrAfter(period.getStartDate());
+		return startEpochDay <= period.endEpochDay() && endEpochDay() >= period.startEpochDay;
 	}
 
 	public <T extends LocalDate> boolean containsAll(Set<T> dates) {
+		if (dates instanceof LocalDateSet) {
+			return containsAll((LocalDateSet) dates);
+		}
+		final int endEpochDay = endEpochDay();
 		for (LocalDate date : dates) {
-			if (!(date.isOnOrAfter(startDate) && date.isOnOrBefore(endDate))) {
+			final int epochDay = date.toEpochDay();
+			if (epochDay < startEpochDay || epochDay > endEpochDay) {
 				return false;
 			}
 		}
 		return true;
 	}
 
+	private boolean containsAll(final LocalDateSet dates) {
+		return dates.isEmpty() || (dates.minEpochDay() >= startEpochDay && dates.maxEpochDay() <= endEpochDay());
+	}
+
 	@Override
 	public boolean equals(final Object obj) {
 		if (obj == this) {
@@ -70,13 +96,12 @@ public class Period {
 			return false;
 		}
 		final Period other = (Period) obj;
-		return new EqualsBuilder().append(startDate, other.startDate).append(endDate, other.endDate).append(
-				duration, other.duration).isEquals();
+		return startEpochDay == other.startEpochDay && durationDays == other.durationDays;
 	}
 
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder().append(startDate).append(endDate).append(duration).toHashCode();
+		return 31 * startEpochDay + durationDays;
 	}
 
 }
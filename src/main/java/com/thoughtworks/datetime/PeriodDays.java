@@ -0,0 +1,113 @@
+package com.thoughtworks.datetime;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable view of the days of a finite period, from the first day to
+ * the last inclusive. Days are produced lazily, either as dates or as epoch
+ * days without allocating, and the view can be split into contiguous parts
+ * to be iterated in parallel.
+ */
+public final class PeriodDays implements Iterable<FiniteLocalDate> {
+	private final int firstEpochDay;
+	private final int lastEpochDay;
+
+	PeriodDays(final int firstEpochDay, final int lastEpochDay) {
+		this.firstEpochDay = firstEpochDay;
+		this.lastEpochDay = lastEpochDay;
+	}
+
+	public int size() {
+		return lastEpochDay - firstEpochDay + 1;
+	}
+
+	public int getFirstEpochDay() {
+		return firstEpochDay;
+	}
+
+	public int getLastEpochDay() {
+		return lastEpochDay;
+	}
+
+	public Iterator<FiniteLocalDate> iterator() {
+		final EpochDayIterator epochDays = epochDays();
+		return new Iterator<FiniteLocalDate>() {
+			public boolean hasNext() {
+				return epochDays.hasNext();
+			}
+
+			public FiniteLocalDate next() {
+				return FiniteLocalDate.of(epochDays.nextEpochDay());
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public EpochDayIterator epochDays() {
+		return new EpochDayIterator(firstEpochDay, lastEpochDay);
+	}
+
+	/**
+	 * Splits the days into at most the given number of contiguous parts of
+	 * near equal size, in order.
+	 */
+	public List<PeriodDays> split(final int parts) {
+		if (parts < 1) {
+			throw new IllegalArgumentException("parts must be positive");
+		}
+		final int count = Math.min(parts, size());
+		final List<PeriodDays> result = new ArrayList<PeriodDays>(count);
+		int first = firstEpochDay;
+		for (int part = 0; part < count; part++) {
+			final int length = (size() - (first - firstEpochDay)) / (count - part);
+			result.add(new PeriodDays(first, first + length - 1));
+			first += length;
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof PeriodDays)) {
+			return false;
+		}
+		final PeriodDays other = (PeriodDays) obj;
+		return firstEpochDay == other.firstEpochDay && lastEpochDay == other.lastEpochDay;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * firstEpochDay + lastEpochDay;
+	}
+
+	/**
+	 * Iterates epoch days as primitive ints.
+	 */
+	public static final class EpochDayIterator {
+		private final int lastEpochDay;
+		private int nextEpochDay;
+
+		EpochDayIterator(final int firstEpochDay, final int lastEpochDay) {
+			this.nextEpochDay = firstEpochDay;
+			this.lastEpochDay = lastEpochDay;
+		}
+
+		public boolean hasNext() {
+			return nextEpochDay <= lastEpochDay;
+		}
+
+		public int nextEpochDay() {
+			if (nextEpochDay > lastEpochDay) {
+				throw new NoSuchElementException();
+			}
+			return nextEpochDay++;
+		}
+	}
+
+}
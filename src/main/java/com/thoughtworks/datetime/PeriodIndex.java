@@ -0,0 +1,221 @@
+package com.thoughtworks.datetime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An interval tree of periods: a balanced binary tree ordered by start date in
+ * which every node also records the latest end date beneath it, so subtrees
+ * that end before a query can be skipped. Inserts and removals take
+ * logarithmic time and queries take logarithmic time plus the number of
+ * matches. Infinite dates sort after every finite date, matching
+ * {@link Period#isOverlapping(Period)}. Instances are not thread-safe.
+ */
+public final class PeriodIndex {
+	private Node root;
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void add(final Period period) {
+		root = insert(root, period.startEpochDay(), period.endEpochDay(), period);
+		size++;
+	}
+
+	public boolean remove(final Period period) {
+		final int sizeBefore = size;
+		root = delete(root, period.startEpochDay(), period.endEpochDay(), period);
+		return size < sizeBefore;
+	}
+
+	public void clear() {
+		root = null;
+		size = 0;
+	}
+
+	public boolean isOverlapping(final Period period) {
+		return findFirst(root, period.startEpochDay(), period.endEpochDay()) != null;
+	}
+
+	public List<Period> findOverlapping(final Period period) {
+		final List<Period> result = new ArrayList<Period>();
+		collect(root, period.startEpochDay(), period.endEpochDay(), result);
+		return result;
+	}
+
+	public List<Period> findContaining(final LocalDate date) {
+		final int epochDay = date.toEpochDay();
+		final List<Period> result = new ArrayList<Period>();
+		collect(root, epochDay, epochDay, result);
+		return result;
+	}
+
+	private static void collect(final Node node, final int start, final int end, final List<Period> result) {
+		if (node == null || node.maxEnd < start) {
+			return;
+		}
+		collect(node.left, start, end, result);
+		if (node.start <= end) {
+			if (node.end >= start) {
+				result.addAll(node.periods);
+			}
+			collect(node.right, start, end, result);
+		}
+	}
+
+	private static Node findFirst(final Node node, final int start, final int end) {
+		if (node == null || node.maxEnd < start) {
+			return null;
+		}
+		final Node left = findFirst(node.left, start, end);
+		if (left != null) {
+			return left;
+		}
+		if (node.start > end) {
+			return null;
+		}
+		return node.end >= start ? node : findFirst(node.right, start, end);
+	}
+
+	private Node insert(final Node node, final int start, final int end, final Period period) {
+		if (node == null) {
+			return new Node(start, end, period);
+		}
+		final int order = compare(start, end, node);
+		if (order == 0) {
+			node.periods.add(period);
+			return node;
+		}
+		if (order < 0) {
+			node.left = insert(node.left, start, end, period);
+		} else {
+			node.right = insert(node.right, start, end, period);
+		}
+		return rebalance(node);
+	}
+
+	private Node delete(final Node node, final int start, final int end, final Period period) {
+		if (node == null) {
+			return null;
+		}
+		final int order = compare(start, end, node);
+		if (order < 0) {
+			node.left = delete(node.left, start, end, period);
+		} else if (order > 0) {
+			node.right = delete(node.right, start, end, period);
+		} else {
+			if (!node.periods.remove(period)) {
+				return node;
+			}
+			size--;
+			if (!node.periods.isEmpty()) {
+				return node;
+			}
+			if (node.left == null) {
+				return node.right;
+			}
+			if (node.right == null) {
+				return node.left;
+			}
+			Node successor = node.right;
+			while (successor.left != null) {
+				successor = successor.left;
+			}
+			successor.right = removeFirst(node.right);
+			successor.left = node.left;
+			return rebalance(successor);
+		}
+		return rebalance(node);
+	}
+
+	private static Node removeFirst(final Node node) {
+		if (node.left == null) {
+			return node.right;
+		}
+		node.left = removeFirst(node.left);
+		return rebalance(node);
+	}
+
+	private static int compare(final int start, final int end, final Node node) {
+		final int order = FiniteLocalDate.compare(start, node.start);
+		return order != 0 ? order : FiniteLocalDate.compare(end, node.end);
+	}
+
+	private static Node rebalance(final Node node) {
+		node.update();
+		final int balance = height(node.left) - height(node.right);
+		if (balance > 1) {
+			if (height(node.left.left) < height(node.left.right)) {
+				node.left = rotateLeft(node.left);
+			}
+			return rotateRight(node);
+		}
+		if (balance < -1) {
+			if (height(node.right.right) < height(node.right.left)) {
+				node.right = rotateRight(node.right);
+			}
+			return rotateLeft(node);
+		}
+		return node;
+	}
+
+	private static Node rotateLeft(final Node node) {
+		final Node right = node.right;
+		node.right = right.left;
+		right.left = node;
+		node.update();
+		right.update();
+		return right;
+	}
+
+	private static Node rotateRight(final Node node) {
+		final Node left = node.left;
+		node.left = left.right;
+		left.right = node;
+		node.update();
+		left.update();
+		return left;
+	}
+
+	private static int height(final Node node) {
+		return node == null ? 0 : node.height;
+	}
+
+	/**
+	 * All the indexed periods that share one start and end date.
+	 */
+	private static final class Node {
+		final int start;
+		final int end;
+		final List<Period> periods = new ArrayList<Period>(1);
+		Node left;
+		Node right;
+		int height;
+		int maxEnd;
+
+		Node(final int start, final int end, final Period period) {
+			this.start = start;
+			this.end = end;
+			periods.add(period);
+			update();
+		}
+
+		void update() {
+			height = 1 + Math.max(height(left), height(right));
+			maxEnd = end;
+			if (left != null && left.maxEnd > maxEnd) {
+				maxEnd = left.maxEnd;
+			}
+			if (right != null && right.maxEnd > maxEnd) {
+				maxEnd = right.maxEnd;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.thoughtworks.datetime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable set of dates held as sorted, disjoint and non-adjacent
+ * periods. Union, intersection, difference and complement each make a
+ * single merge pass over the periods of both sets. An infinite end date
+ * sorts after every finite date; periods with an infinite start date contain
+ * no dates and are ignored.
+ */
+public final class PeriodSet {
+	private static final PeriodSet EMPTY = new PeriodSet(new int[0], new int[0], 0);
+
+	private final int[] starts;
+	private final int[] ends;
+	private final int count;
+
+	private PeriodSet(final int[] starts, final int[] ends, final int count) {
+		this.starts = starts;
+		this.ends = ends;
+		this.count = count;
+	}
+
+	public static PeriodSet empty() {
+		return EMPTY;
+	}
+
+	public static PeriodSet of(final Period... periods) {
+		return of(Arrays.asList(periods));
+	}
+
+	public static PeriodSet of(final Collection<Period> periods) {
+		final long[] sorted = new long[periods.size()];
+		int length = 0;
+		for (final Period period : periods) {
+			if (period.startEpochDay() != EpochDays.INFINITE) {
+				final long start = period.startEpochDay();
+				final int end = period.endEpochDay();
+				sorted[length++] = start << 32 | (end & 0xFFFFFFFFL);
+			}
+		}
+		Arrays.sort(sorted, 0, length);
+		final Builder builder = new Builder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append((int) (sorted[i] >> 32), (int) sorted[i]);
+		}
+		return builder.build();
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	public List<Period> getPeriods() {
+		final List<Period> periods = new ArrayList<Period>(count);
+		for (int i = 0; i < count; i++) {
+			periods.add(toPeriod(starts[i], ends[i]));
+		}
+		return Collections.unmodifiableList(periods);
+	}
+
+	public boolean contains(final LocalDate date) {
+		if (date.isInfinite()) {
+			return count > 0 && ends[count - 1] == EpochDays.INFINITE;
+		}
+		final int epochDay = date.toFiniteLocalDate().toEpochDay();
+		int index = Arrays.binarySearch(starts, 0, count, epochDay);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		return index >= 0 && epochDay <= ends[index];
+	}
+
+	public PeriodSet union(final PeriodSet other) {
+		final Builder builder = new Builder(count + other.count);
+		int i = 0;
+		int j = 0;
+		while (i < count || j < other.count) {
+			if (j == other.count || (i < count && starts[i] <= other.starts[j])) {
+				builder.append(starts[i], ends[i]);
+				i++;
+			} else {
+				builder.append(other.starts[j], other.ends[j]);
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public PeriodSet intersection(final PeriodSet other) {
+		final Builder builder = new Builder(count + other.count);
+		int i = 0;
+		int j = 0;
+		while (i < count && j < other.count) {
+			final int start = Math.max(starts[i], other.starts[j]);
+			final int end = Math.min(ends[i], other.ends[j]);
+			if (start <= end) {
+				builder.append(start, end);
+			}
+			if (ends[i] < other.ends[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public PeriodSet difference(final PeriodSet other) {
+		final Builder builder = new Builder(count + other.count);
+		int j = 0;
+		for (int i = 0; i < count; i++) {
+			final int end = ends[i];
+			int start = starts[i];
+			while (j < other.count && other.ends[j] < start) {
+				j++;
+			}
+			boolean covered = false;
+			for (int k = j; k < other.count && other.starts[k] <= end; k++) {
+				if (other.starts[k] > start) {
+					builder.append(start, other.starts[k] - 1);
+				}
+				if (other.ends[k] >= end) {
+					covered = true;
+					break;
+				}
+				start = other.ends[k] + 1;
+			}
+			if (!covered) {
+				builder.append(start, end);
+			}
+		}
+		return builder.build();
+	}
+
+	public PeriodSet complement(final Period bounds) {
+		return of(bounds).difference(this);
+	}
+
+	private static Period toPeriod(final int start, final int end) {
+		return Period.of(FiniteLocalDate.of(start), end == EpochDays.INFINITE ? LocalDate.infinite()
+				: FiniteLocalDate.of(end));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PeriodSet)) {
+			return false;
+		}
+		final PeriodSet other = (PeriodSet) obj;
+		if (count != other.count) {
+			return false;
+		}
+		for (int i = 0; i < count; i++) {
+			if (starts[i] != other.starts[i] || ends[i] != other.ends[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 17;
+		for (int i = 0; i < count; i++) {
+			hash = 31 * (31 * hash + starts[i]) + ends[i];
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return getPeriods().toString();
+	}
+
+	/**
+	 * Collects periods in start order, merging each with the last one when
+	 * they overlap or touch and dropping empty ones.
+	 */
+	private static final class Builder {
+		private final int[] starts;
+		private final int[] ends;
+		private int count;
+
+		Builder(final int capacity) {
+			starts = new int[capacity];
+			ends = new int[capacity];
+		}
+
+		void append(final int start, final int end) {
+			if (end < start) {
+				return;
+			}
+			if (count > 0 && start - 1 <= ends[count - 1]) {
+				ends[count - 1] = Math.max(ends[count - 1], end);
+			} else {
+				starts[count] = start;
+				ends[count] = end;
+				count++;
+			}
+		}
+
+		PeriodSet build() {
+			return count == 0 ? EMPTY : new PeriodSet(starts, ends, count);
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+package com.thoughtworks.datetime;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A rule for dates that recur daily, weekly on given days, monthly or yearly
+ * within a period whose end may be infinite. Occurrences are produced lazily
+ * and the next occurrence on or after any date is calculated directly rather
+ * than by stepping through the earlier ones. Monthly and yearly occurrences
+ * fall on the last day of shorter months, as {@link FiniteLocalDate#plusMonths}
+ * does. Instances are immutable and thread-safe.
+ */
+public final class Recurrence implements Iterable<FiniteLocalDate> {
+	private enum Frequency {
+		DAILY, WEEKLY, MONTHLY
+	};
+
+	private final Period bounds;
+	private final Frequency frequency;
+	private final int interval;
+	private final int dayMask;
+	private final int dayOfMonth;
+	private final int firstEpochDay;
+	private final int lastEpochDay;
+
+	private Recurrence(final Period bounds, final Frequency frequency, final int interval, final int dayMask,
+			final int dayOfMonth) {
+		if (bounds.startEpochDay() == EpochDays.INFINITE) {
+			throw new IllegalArgumentException("recurrence must start on a finite date");
+		}
+		if (interval < 1) {
+			throw new IllegalArgumentException("interval must be positive");
+		}
+		this.bounds = bounds;
+		this.frequency = frequency;
+		this.interval = interval;
+		this.dayMask = dayMask;
+		this.dayOfMonth = dayOfMonth;
+		this.firstEpochDay = bounds.startEpochDay();
+		this.lastEpochDay = bounds.endEpochDay();
+	}
+
+	public static Recurrence daily(final Period bounds) {
+		return new Recurrence(bounds, Frequency.DAILY, 1, 0, 0);
+	}
+
+	public static Recurrence weekly(final Period bounds, final Date.Day... days) {
+		int dayMask = 0;
+		for (final Date.Day day : days) {
+			dayMask |= 1 << day.ordinal();
+		}
+		if (dayMask == 0) {
+			throw new IllegalArgumentException("at least one day is required");
+		}
+		return new Recurrence(bounds, Frequency.WEEKLY, 1, dayMask, 0);
+	}
+
+	public static Recurrence monthlyOnDay(final Period bounds, final int dayOfMonth) {
+		if (dayOfMonth < 1 || dayOfMonth > 31) {
+			throw new IllegalArgumentException("day of month must be in the range [1,31]");
+		}
+		return new Recurrence(bounds, Frequency.MONTHLY, 1, 0, dayOfMonth);
+	}
+
+	public static Recurrence monthlyOnLastDay(final Period bounds) {
+		return monthlyOnDay(bounds, 31);
+	}
+
+	/**
+	 * Recurs every year on the month and day of the start of bounds.
+	 */
+	public static Recurrence yearly(final Period bounds) {
+		return new Recurrence(bounds, Frequency.MONTHLY, 12, 0, bounds.getStartDate().getDayOfMonth());
+	}
+
+	/**
+	 * Returns this rule recurring only every given number of days, weeks,
+	 * months or years, counted from the start of bounds.
+	 */
+	public Recurrence every(final int times) {
+		return new Recurrence(bounds, frequency, interval * times, dayMask, dayOfMonth);
+	}
+
+	public Period getBounds() {
+		return bounds;
+	}
+
+	/**
+	 * Returns the first occurrence on or after date, or the infinite date if
+	 * there is none.
+	 */
+	public LocalDate nextOnOrAfter(final LocalDate date) {
+		if (date.isInfinite()) {
+			return LocalDate.infinite();
+		}
+		final int epochDay = nextEpochDayOnOrAfter(date.toFiniteLocalDate().toEpochDay());
+		return epochDay == EpochDays.INFINITE ? LocalDate.infinite() : FiniteLocalDate.of(epochDay);
+	}
+
+	/**
+	 * Returns the epoch day of the first occurrence on or after epochDay, or
+	 * Integer.MAX_VALUE if there is none.
+	 */
+	public int nextEpochDayOnOrAfter(final int epochDay) {
+		if (epochDay > lastEpochDay) {
+			return EpochDays.INFINITE;
+		}
+		final int from = Math.max(epochDay, firstEpochDay);
+		final long next;
+		switch (frequency) {
+		case DAILY:
+			next = firstEpochDay + ceilingMultiple(from - firstEpochDay, interval);
+			break;
+		case WEEKLY:
+			next = nextWeekly(from);
+			break;
+		default:
+			next = nextMonthly(from);
+			break;
+		}
+		return next > lastEpochDay ? EpochDays.INFINITE : (int) next;
+	}
+
+	public Iterator<FiniteLocalDate> iterator() {
+		return new Iterator<FiniteLocalDate>() {
+			private int next = nextEpochDayOnOrAfter(firstEpochDay);
+
+			public boolean hasNext() {
+				return next != EpochDays.INFINITE;
+			}
+
+			public FiniteLocalDate next() {
+				if (next == EpochDays.INFINITE) {
+					throw new NoSuchElementException();
+				}
+				final int current = next;
+				next = current >= lastEpochDay ? EpochDays.INFINITE : nextEpochDayOnOrAfter(current + 1);
+				return FiniteLocalDate.of(current);
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private long nextWeekly(final int from) {
+		final long firstMonday = firstEpochDay - (EpochDays.dayOfWeek(firstEpochDay) - 1);
+		long week = (from - firstMonday) / 7;
+		int dayIndex = (int) ((from - firstMonday) % 7);
+		if (week % interval != 0) {
+			week = ceilingMultiple(week, interval);
+			dayIndex = 0;
+		}
+		final int remainingDays = dayMask >>> dayIndex;
+		if (remainingDays != 0) {
+			return firstMonday + week * 7 + dayIndex + Integer.numberOfTrailingZeros(remainingDays);
+		}
+		return firstMonday + (week + interval) * 7 + Integer.numberOfTrailingZeros(dayMask);
+	}
+
+	private long nextMonthly(final int from) {
+		final long firstMonth = monthIndex(firstEpochDay);
+		long month = firstMonth + ceilingMultiple(monthIndex(from) - firstMonth, interval);
+		long next = occurrenceIn(month);
+		if (next < from) {
+			month += interval;
+			next = occurrenceIn(month);
+		}
+		return next;
+	}
+
+	private long occurrenceIn(final long monthIndex) {
+		final long year = EpochDays.floorDiv(monthIndex, 12);
+		if (year > EpochDays.MAX_YEAR) {
+			return Long.MAX_VALUE;
+		}
+		final int month = (int) (monthIndex - year * 12) + 1;
+		return EpochDays.of((int) year, month, Math.min(dayOfMonth, EpochDays.lengthOfMonth((int) year, month)));
+	}
+
+	private static long monthIndex(final int epochDay) {
+		final int ymd = EpochDays.decode(epochDay);
+		return (ymd >> 9) * 12L + ((ymd >> 5) & 0xF) - 1;
+	}
+
+	private static long ceilingMultiple(final long value, final int interval) {
+		return (value + interval - 1) / interval * interval;
+	}
+
+}
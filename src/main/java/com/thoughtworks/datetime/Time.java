@@ -10,4 +10,8 @@ public interface Time {
     boolean isAfterNow();
 
     boolean isBeforeNow();
+
+    boolean isAfterNow(Clock clock);
+
+    boolean isBeforeNow(Clock clock);
 }
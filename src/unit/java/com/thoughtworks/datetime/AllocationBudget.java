@@ -0,0 +1,76 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes the current thread allocates per run of an operation,
+ * after warming it up and subtracting the cost of the measuring loop itself.
+ */
+public final class AllocationBudget {
+	private static final int WARMUP_RUNS = 50000;
+	private static final int MEASURED_RUNS = 200000;
+
+	private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+	private static volatile Object sink;
+
+	public abstract static class Operation {
+		public abstract Object run(int i);
+	}
+
+	private static final Operation NOTHING = new Operation() {
+		@Override
+		public Object run(final int i) {
+			return null;
+		}
+	};
+
+	private AllocationBudget() {
+	}
+
+	public static boolean isSupported() {
+		return THREADS != null;
+	}
+
+	public static void assertAllocatesAtMost(final String name, final long bytes, final Operation operation) {
+		final double measured = bytesPerRun(operation);
+		assertTrue(name + " allocated " + measured + " bytes per run, over its budget of " + bytes,
+				measured <= bytes + 0.5);
+	}
+
+	public static double bytesPerRun(final Operation operation) {
+		final long calibration = measure(NOTHING);
+		return Math.max(0, measure(operation) - calibration) / (double) MEASURED_RUNS;
+	}
+
+	private static long measure(final Operation operation) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			sink = operation.run(i);
+		}
+		final long thread = Thread.currentThread().getId();
+		final long before = THREADS.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			sink = operation.run(i);
+		}
+		return THREADS.getThreadAllocatedBytes(thread) - before;
+	}
+
+	private static com.sun.management.ThreadMXBean threads() {
+		try {
+			final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+					.getThreadMXBean();
+			if (!threads.isThreadAllocatedMemorySupported()) {
+				return null;
+			}
+			threads.setThreadAllocatedMemoryEnabled(true);
+			return threads;
+		} catch (final ClassCastException e) {
+			return null;
+		} catch (final NoClassDefFoundError e) {
+			return null;
+		}
+	}
+
+}
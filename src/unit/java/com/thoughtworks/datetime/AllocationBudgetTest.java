@@ -0,0 +1,252 @@
+package com.thoughtworks.datetime;
+
+import static com.thoughtworks.datetime.AllocationBudget.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.thoughtworks.datetime.AllocationBudget.Operation;
+
+/**
+ * Guards the allocation-free hot paths; budgets are bytes per operation on a
+ * 64-bit JVM, where the smallest object takes 16 bytes.
+ */
+public class AllocationBudgetTest {
+	private static final int ONE_OBJECT = 24;
+
+	private final FiniteLocalDate date = LocalDate.on(2010, 3, 14);
+	private final FiniteLocalDate other = LocalDate.on(2010, 3, 15);
+	private final LocalDateTime dateTime = LocalDateTime.at(2010, 3, 14, 12, 0, 0);
+	private final LocalDateTime otherDateTime = LocalDateTime.at(2010, 3, 14, 12, 0, 1);
+	private final Period period = Period.of(LocalDate.on(2010, 1, 1), LocalDate.on(2010, 12, 31));
+	private final Period otherPeriod = Period.of(LocalDate.on(2010, 6, 1), LocalDate.infinite());
+
+	@Before
+	public void requireAllocationCounting() {
+		Assume.assumeTrue(isSupported());
+	}
+
+	@Test
+	public void shouldCompareFiniteDatesWithoutAllocating() throws Exception {
+		assertAllocatesAtMost("FiniteLocalDate.compareTo", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.compareTo(other) < 0;
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.isAfter", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.isAfter(other);
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.compareTo(infinite)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.compareTo(LocalDate.infinite()) < 0;
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.equals", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.equals(other);
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.hashCode", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.hashCode() == i;
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.isBeforeNow", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.isBeforeNow();
+			}
+		});
+	}
+
+	@Test
+	public void shouldAllocateOnlyResultOfFiniteDateArithmetic() throws Exception {
+		assertAllocatesAtMost("FiniteLocalDate.plusDays", ONE_OBJECT, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.plusDays(i & 0xFFF);
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.plusMonths", ONE_OBJECT, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.plusMonths(i & 0xFF);
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.getDayOfWeek", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.getDayOfWeek() == 7;
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.daysUntil", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.daysUntil(other) == 1;
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.durationUntil", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.durationUntil(other);
+			}
+		});
+	}
+
+	@Test
+	public void shouldParseEpochDaysWithoutAllocating() throws Exception {
+		final DateParser parser = DateParser.forPattern("dd/MM/yyyy");
+		final DateParser isoParser = DateParser.forPattern("yyyy-MM-dd");
+		assertAllocatesAtMost("DateParser.parseEpochDay", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return parser.parseEpochDay("14/03/2010") == DateParser.INVALID;
+			}
+		});
+		assertAllocatesAtMost("DateParser.parseEpochDay(invalid)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return parser.parseEpochDay("31/02/2010") == DateParser.INVALID;
+			}
+		});
+		assertAllocatesAtMost("DateParser.parseEpochDay(iso)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return isoParser.parseEpochDay("2010-03-14") == DateParser.INVALID;
+			}
+		});
+	}
+
+	@Test
+	public void shouldNotAllocateInternedDates() throws Exception {
+		final FiniteLocalDate today = LocalDate.today();
+		final String text = String.format("%04d-%02d-%02d", today.getYear(), today.getMonthOfYear(), today
+				.getDayOfMonth());
+		LocalDate.enableInterning(4096);
+		try {
+			assertAllocatesAtMost("FiniteLocalDate.plusDays(interned)", 0, new Operation() {
+				@Override
+				public Object run(final int i) {
+					return today.plusDays(i & 0xFFF);
+				}
+			});
+			assertAllocatesAtMost("IsoDateParser.parseDate(interned)", 0, new Operation() {
+				@Override
+				public Object run(final int i) {
+					return IsoDateParser.parseDate(text);
+				}
+			});
+		} finally {
+			LocalDate.disableInterning();
+		}
+	}
+
+	@Test
+	public void shouldCompareDateTimesWithoutAllocating() throws Exception {
+		assertAllocatesAtMost("LocalDateTime.compareTo", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.compareTo(otherDateTime) < 0;
+			}
+		});
+		assertAllocatesAtMost("LocalDateTime.equals", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.equals(otherDateTime);
+			}
+		});
+		assertAllocatesAtMost("LocalDateTime.isAfter", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.isAfter(otherDateTime);
+			}
+		});
+		assertAllocatesAtMost("LocalDateTime.isAfter(FiniteLocalDate)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.isAfter(date);
+			}
+		});
+		assertAllocatesAtMost("FiniteLocalDate.isBefore(LocalDateTime)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return date.isBefore(dateTime);
+			}
+		});
+		assertAllocatesAtMost("LocalDateTime.hourOfDay", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.hourOfDay() == 12;
+			}
+		});
+		assertAllocatesAtMost("LocalDateTime.plusHours", ONE_OBJECT, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return dateTime.plusHours(i & 0xFF);
+			}
+		});
+	}
+
+	@Test
+	public void shouldUseDurationsWithoutAllocating() throws Exception {
+		assertAllocatesAtMost("Duration.ofDays", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return Duration.ofDays(i & 0x3FF);
+			}
+		});
+		assertAllocatesAtMost("Duration.equals", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return Duration.ofDays(10).equals(Duration.ofDays(i & 0xF));
+			}
+		});
+		assertAllocatesAtMost("Duration.hashCode", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return Duration.ofDays(10).hashCode() == i;
+			}
+		});
+		assertAllocatesAtMost("Duration.plus", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return Duration.ofDays(10).plus(Duration.ofDays(i & 0xFF));
+			}
+		});
+	}
+
+	@Test
+	public void shouldQueryPeriodsWithoutAllocating() throws Exception {
+		final LocalDateSet dates = LocalDateSet.of(Period.of(LocalDate.on(2010, 2, 1), Duration.ofDays(100)));
+		final Set<FiniteLocalDate> hashSet = new HashSet<FiniteLocalDate>(dates);
+		assertAllocatesAtMost("Period.isOverlapping", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return period.isOverlapping(otherPeriod);
+			}
+		});
+		assertAllocatesAtMost("Period.containsAll(LocalDateSet)", 0, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return period.containsAll(dates);
+			}
+		});
+		assertAllocatesAtMost("Period.containsAll(HashSet)", 2 * ONE_OBJECT, new Operation() {
+			@Override
+			public Object run(final int i) {
+				return period.containsAll(hashSet);
+			}
+		});
+	}
+}
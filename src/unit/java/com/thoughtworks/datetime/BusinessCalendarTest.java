@@ -0,0 +1,99 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BusinessCalendarTest {
+	private static final FiniteLocalDate START = LocalDate.on(2010, 1, 1);
+	private static final FiniteLocalDate END = LocalDate.on(2011, 12, 31);
+
+	private final Set<FiniteLocalDate> holidays = new HashSet<FiniteLocalDate>();
+	{
+		holidays.add(LocalDate.on(2010, 12, 27));
+		holidays.add(LocalDate.on(2010, 12, 28));
+		holidays.add(LocalDate.on(2011, 1, 3));
+		holidays.add(LocalDate.on(2011, 4, 22));
+	}
+	private final BusinessCalendar calendar = new BusinessCalendar(Period.of(START, END), holidays);
+
+	@Test
+	public void shouldExcludeWeekendsAndHolidays() throws Exception {
+		assertTrue(calendar.isBusinessDay(LocalDate.on(2010, 12, 24)));
+		assertFalse(calendar.isBusinessDay(LocalDate.on(2010, 12, 25)));
+		assertFalse(calendar.isBusinessDay(LocalDate.on(2010, 12, 27)));
+	}
+
+	@Test
+	public void shouldAddAndSubtractBusinessDays() throws Exception {
+		assertEquals(LocalDate.on(2010, 12, 29), calendar.plusBusinessDays(LocalDate.on(2010, 12, 24), 1));
+		assertEquals(LocalDate.on(2011, 1, 4), calendar.plusBusinessDays(LocalDate.on(2010, 12, 24), 4));
+		assertEquals(LocalDate.on(2010, 12, 24), calendar.minusBusinessDays(LocalDate.on(2010, 12, 29), 1));
+		assertEquals(LocalDate.on(2010, 12, 24), calendar.plusBusinessDays(LocalDate.on(2010, 12, 29), -1));
+		assertEquals(LocalDate.on(2010, 12, 24), calendar.minusBusinessDays(LocalDate.on(2010, 12, 26), 1));
+		assertEquals(LocalDate.on(2010, 12, 25), calendar.plusBusinessDays(LocalDate.on(2010, 12, 25), 0));
+	}
+
+	@Test
+	public void shouldCountBusinessDaysFromStartInclusiveToEndExclusive() throws Exception {
+		assertEquals(1, calendar.businessDaysBetween(LocalDate.on(2010, 12, 24), LocalDate.on(2010, 12, 29)));
+		assertEquals(0, calendar.businessDaysBetween(LocalDate.on(2010, 12, 25), LocalDate.on(2010, 12, 29)));
+		assertEquals(-1, calendar.businessDaysBetween(LocalDate.on(2010, 12, 29), LocalDate.on(2010, 12, 24)));
+		assertEquals(521 - 4, calendar.businessDaysBetween(START, END.plusDays(1)));
+	}
+
+	@Test
+	public void shouldMatchDayByDayWalk() throws Exception {
+		final Random random = new Random(3);
+		for (int i = 0; i < 500; i++) {
+			final FiniteLocalDate date = START.plusDays(random.nextInt(600));
+			final int days = random.nextInt(60);
+			FiniteLocalDate expected = date;
+			for (int remaining = days; remaining > 0; remaining--) {
+				do {
+					expected = expected.plusDays(1);
+				} while (expected.isWeekend() || holidays.contains(expected));
+			}
+			assertEquals(expected, calendar.plusBusinessDays(date, days));
+			if (calendar.isBusinessDay(date)) {
+				assertEquals(date, calendar.minusBusinessDays(expected, days));
+			}
+			assertEquals(days, calendar.businessDaysBetween(date.plusDays(1), expected.plusDays(1)));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectDatesOutsideRange() throws Exception {
+		calendar.isBusinessDay(END.plusDays(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectResultsOutsideRange() throws Exception {
+		calendar.plusBusinessDays(END.minusDays(3), 10);
+	}
+
+	@Test
+	public void shouldRejectMinimumBusinessDaysWithoutOverflowing() throws Exception {
+		try {
+			calendar.plusBusinessDays(START.plusDays(10), Integer.MIN_VALUE);
+			fail();
+		} catch (final IllegalArgumentException e) {
+			assertEquals("result is outside the calendar range", e.getMessage());
+		}
+		try {
+			calendar.minusBusinessDays(START.plusDays(10), Integer.MIN_VALUE);
+			fail();
+		} catch (final IllegalArgumentException e) {
+			assertEquals("result is outside the calendar range", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInfiniteRange() throws Exception {
+		new BusinessCalendar(Period.of(START, LocalDate.infinite()), holidays);
+	}
+}
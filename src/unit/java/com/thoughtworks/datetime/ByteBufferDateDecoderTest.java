@@ -0,0 +1,90 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.junit.Test;
+
+public class ByteBufferDateDecoderTest {
+
+	@Test
+	public void shouldDecodeFieldAtOffsetOfHeapBuffer() throws Exception {
+		final ByteBuffer buffer = ascii("id=1;1977-12-22;x");
+		final ByteBufferDateDecoder decoder = ByteBufferDateDecoder.forPattern(IsoDateParser.DATE_PATTERN);
+		assertEquals(LocalDate.on(1977, 12, 22), decoder.decodeLocalDate(buffer, 5, 10));
+		assertEquals(DateParser.INVALID, decoder.decodeEpochDay(buffer, 4, 10));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void shouldDecodeFixedWidthFieldsOfDirectBuffer() throws Exception {
+		final byte[] bytes = "22/12/1977A01/01/2000B31/02/2000C".getBytes("US-ASCII");
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		final int[] epochDays = new int[3];
+		final int failures = ByteBufferDateDecoder.forPattern("dd/MM/yyyy").decodeFixedWidth(buffer,
+				new int[] { 0, 11, 22 }, 10, epochDays);
+		assertEquals(1, failures);
+		assertEquals(LocalDate.on(1977, 12, 22).toEpochDay(), epochDays[0]);
+		assertEquals(LocalDate.on(2000, 1, 1).toEpochDay(), epochDays[1]);
+		assertEquals(DateParser.INVALID, epochDays[2]);
+	}
+
+	@Test
+	public void shouldDecodeDelimitedFields() throws Exception {
+		final ByteBuffer buffer = ascii("2010-01-05,,2010-1-6,bad,2010-01-07");
+		final int[] epochDays = new int[8];
+		final ByteBufferDateDecoder decoder = ByteBufferDateDecoder.forPattern(IsoDateParser.DATE_PATTERN);
+		assertEquals(5, decoder.decodeDelimited(buffer, 0, buffer.limit(), (byte) ',', epochDays, 1));
+		assertEquals(LocalDate.on(2010, 1, 5).toEpochDay(), epochDays[1]);
+		assertEquals(DateParser.INVALID, epochDays[2]);
+		assertEquals(LocalDate.on(2010, 1, 6).toEpochDay(), epochDays[3]);
+		assertEquals(DateParser.INVALID, epochDays[4]);
+		assertEquals(LocalDate.on(2010, 1, 7).toEpochDay(), epochDays[5]);
+
+		final FiniteLocalDate[] dates = decoder.toLocalDates(epochDays, 6);
+		assertNull(dates[2]);
+		assertEquals(LocalDate.on(2010, 1, 7), dates[5]);
+	}
+
+	@Test
+	public void shouldStopDecodingDelimitedFieldsWhenArrayIsFull() throws Exception {
+		final ByteBuffer buffer = ascii("2010-01-05,2010-01-06,2010-01-07");
+		final int[] epochDays = new int[2];
+		assertEquals(2, ByteBufferDateDecoder.forPattern(IsoDateParser.DATE_PATTERN).decodeDelimited(buffer, 0,
+				buffer.limit(), (byte) ',', epochDays, 0));
+	}
+
+	@Test
+	public void shouldDecodeMemoryMappedFile() throws Exception {
+		final File file = File.createTempFile("dates", ".txt");
+		file.deleteOnExit();
+		final FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write("19771222|20000229".getBytes("US-ASCII"));
+		} finally {
+			out.close();
+		}
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+			final int[] epochDays = new int[2];
+			ByteBufferDateDecoder.forPattern("yyyyMMdd").decodeDelimited(buffer, 0, buffer.limit(), (byte) '|',
+					epochDays, 0);
+			assertEquals(LocalDate.on(1977, 12, 22).toEpochDay(), epochDays[0]);
+			assertEquals(LocalDate.on(2000, 2, 29).toEpochDay(), epochDays[1]);
+		} finally {
+			raf.close();
+		}
+	}
+
+	private ByteBuffer ascii(final String text) throws Exception {
+		return ByteBuffer.wrap(text.getBytes("US-ASCII"));
+	}
+}
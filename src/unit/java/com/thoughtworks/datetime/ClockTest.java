@@ -0,0 +1,74 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Test;
+
+public class ClockTest {
+	private static final DateTimeZone TOKYO = DateTimeZone.forID("Asia/Tokyo");
+
+	@After
+	public void resetSystemDateTime() {
+		LocalDateTime.resetSystemDateTime();
+	}
+
+	@Test
+	public void shouldReadDatesFromFixedClock() throws Exception {
+		final Clock clock = Clock.fixed(LocalDateTime.at(2010, 3, 14, 15, 9, 26));
+		assertEquals(LocalDate.on(2010, 3, 14), LocalDate.today(clock));
+		assertEquals(LocalDateTime.at(2010, 3, 14, 15, 9, 26), LocalDateTime.now(clock));
+		assertTrue(LocalDate.on(2010, 3, 15).isAfterNow(clock));
+		assertFalse(LocalDate.on(2010, 3, 14).isAfterNow(clock));
+		assertTrue(LocalDate.on(2010, 3, 13).isBeforeNow(clock));
+		assertTrue(LocalDateTime.at(2010, 3, 14, 15, 9, 27).isAfterNow(clock));
+		assertTrue(LocalDateTime.at(2010, 3, 14, 15, 9, 25).isBeforeNow(clock));
+		assertTrue(LocalDate.infinite().isAfterNow(clock));
+		assertFalse(LocalDate.infinite().isBeforeNow(clock));
+	}
+
+	@Test
+	public void shouldReadLocalFieldsInClockZone() throws Exception {
+		// 2010-03-14T20:00:00Z is already the next day in Tokyo
+		final Clock clock = Clock.fixed(1268596800000L, TOKYO);
+		assertEquals(LocalDate.on(2010, 3, 15), LocalDate.today(clock));
+		assertEquals(LocalDateTime.at(2010, 3, 15, 5, 0, 0), LocalDateTime.now(clock));
+	}
+
+	@Test
+	public void shouldCompareWithNowInClockZone() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.UTC);
+			final Clock clock = Clock.fixed(1268596800000L, TOKYO);
+			final LocalDateTime now = LocalDateTime.now(clock);
+			assertFalse(now.minusHours(1).isAfterNow(clock));
+			assertTrue(now.minusHours(1).isBeforeNow(clock));
+			assertTrue(now.plusHours(1).isAfterNow(clock));
+			assertFalse(now.plusHours(1).isBeforeNow(clock));
+			assertFalse(now.isAfterNow(clock));
+			assertFalse(now.isBeforeNow(clock));
+			assertFalse(LocalDate.today(clock).isAfterNow(clock));
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldOffsetAndTickClock() throws Exception {
+		final Clock clock = Clock.fixed(LocalDateTime.at(2010, 3, 14, 23, 59, 30).getDate().getTime() + 500,
+				DateTimeZone.getDefault());
+		assertEquals(LocalDate.on(2010, 3, 15), LocalDate.today(Clock.offset(clock, 30000)));
+		assertEquals(LocalDateTime.at(2010, 3, 14, 23, 59, 0), LocalDateTime.now(Clock.tick(clock, 60000)));
+		assertEquals(0, Clock.tick(clock, 1000).millis() % 1000);
+	}
+
+	@Test
+	public void shouldHonourFixedSystemDateTimeOnlyInSystemDefaultClock() throws Exception {
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(1999, 12, 31, 23, 0, 0));
+		assertEquals(LocalDate.on(1999, 12, 31), LocalDate.today(Clock.systemDefault()));
+		assertEquals(LocalDate.today(), LocalDate.today(Clock.systemDefault()));
+		assertTrue(LocalDate.today(Clock.system()).isAfter(LocalDate.on(2009, 12, 31)));
+	}
+}
@@ -0,0 +1,76 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+public class DateColumnParserTest {
+
+	@Test
+	public void shouldParseArrayColumnMarkingMissingAndInvalidRows() throws Exception {
+		final DateColumn column = DateColumnParser.forPattern("dd/MM/yyyy").parse(
+				new String[] { "22/12/1977", "", null, "31/02/2000", "01/01/2000" });
+		assertEquals(5, column.size());
+		assertEquals(LocalDate.on(1977, 12, 22), column.getLocalDate(0));
+		assertTrue(column.isMissing(1));
+		assertTrue(column.isMissing(2));
+		assertFalse(column.isInvalid(2));
+		assertTrue(column.isInvalid(3));
+		assertNull(column.getLocalDate(3));
+		assertEquals(DateParser.INVALID, column.getEpochDay(3));
+		assertEquals(LocalDate.on(2000, 1, 1).toEpochDay(), column.getEpochDays()[4]);
+		assertEquals(2, column.getMissing().cardinality());
+		assertEquals(1, column.getInvalid().cardinality());
+	}
+
+	@Test
+	public void shouldParseListColumns() throws Exception {
+		final List<String> values = Arrays.asList("2010-01-05", "bad", "");
+		final DateColumnParser parser = DateColumnParser.forPattern(IsoDateParser.DATE_PATTERN);
+		for (final DateColumn column : new DateColumn[] { parser.parse(values),
+				parser.parse(new LinkedList<String>(values)) }) {
+			assertEquals(LocalDate.on(2010, 1, 5), column.getLocalDate(0));
+			assertTrue(column.isInvalid(1));
+			assertTrue(column.isMissing(2));
+		}
+	}
+
+	@Test
+	public void shouldParseDelimitedBuffer() throws Exception {
+		final DateColumn column = DateColumnParser.forPattern(IsoDateParser.DATE_PATTERN).parse(
+				"2010-01-05\n\n2010-01-32\n2010-01-07", '\n');
+		assertEquals(4, column.size());
+		assertEquals(LocalDate.on(2010, 1, 5), column.getLocalDate(0));
+		assertTrue(column.isMissing(1));
+		assertTrue(column.isInvalid(2));
+		assertEquals(LocalDate.on(2010, 1, 7), column.getLocalDate(3));
+	}
+
+	@Test
+	public void shouldParseLargeColumnInParallel() throws Exception {
+		final int rows = DateColumnParser.MIN_ROWS_PER_TASK * 4 + 3;
+		final String[] values = new String[rows];
+		FiniteLocalDate date = LocalDate.on(1990, 1, 1);
+		for (int i = 0; i < rows; i++) {
+			values[i] = i % 1000 == 0 ? "" : (i % 777 == 0 ? "nope" : date.plusDays(i).format("yyyy-MM-dd"));
+		}
+		final DateColumnParser parser = DateColumnParser.forPattern(IsoDateParser.DATE_PATTERN);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final DateColumn parallel = parser.parse(values, executor);
+			final DateColumn serial = parser.parse(values);
+			assertTrue(Arrays.equals(serial.getEpochDays(), parallel.getEpochDays()));
+			assertEquals(serial.getMissing(), parallel.getMissing());
+			assertEquals(serial.getInvalid(), parallel.getInvalid());
+			assertEquals(date.plusDays(rows - 1), parallel.getLocalDate(rows - 1));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.junit.Test;
+
+public class DateFormatterTest {
+
+	private static final String[] PATTERNS = { "EEE MMM dd yyyy", "EEE MMM dd yyyy HH:mm:ss", "dd/MM/yyyy",
+			"yyyyMMddHHmmss", "d/M/yy", "EEEE, d MMMM yyyy", "'week' ww 'of' yyyy", "yyyy-MM-dd'T'HH:mm:ss",
+			"H:m:s", "''yy''", "HH 'o''clock'", "'it''s' dd MMM" };
+
+	@Test
+	public void shouldFormatDatesLikeJoda() throws Exception {
+		for (final String pattern : PATTERNS) {
+			for (FiniteLocalDate date = LocalDate.on(1999, 12, 25); date.isBefore(LocalDate.on(2000, 3, 5)); date = date
+					.plusDays(3)) {
+				final org.joda.time.LocalDate joda = new org.joda.time.LocalDate(date.getYear(), date.getMonthOfYear(),
+						date.getDayOfMonth());
+				assertEquals(pattern, DateTimeFormat.forPattern(pattern).print(joda), date.format(pattern));
+			}
+		}
+	}
+
+	@Test
+	public void shouldFormatDateTimesLikeJoda() throws Exception {
+		for (final String pattern : PATTERNS) {
+			final LocalDateTime dateTime = LocalDateTime.at(2007, 1, 1, 9, 5, 1);
+			final DateTime joda = new DateTime(2007, 1, 1, 9, 5, 1, 0);
+			assertEquals(pattern, DateTimeFormat.forPattern(pattern).print(joda), dateTime.format(pattern));
+			assertEquals(pattern, DateTimeFormat.forPattern(pattern).print(joda.plusHours(14)), dateTime.plusHours(14)
+					.format(pattern));
+		}
+	}
+
+	@Test
+	public void shouldFormatDoubledQuoteInsideQuotedTextAsQuote() throws Exception {
+		assertEquals("9 o'clock", LocalDateTime.at(2007, 1, 1, 9, 5, 1).format("H 'o''clock'"));
+		assertEquals("o'clock", LocalDate.on(2007, 1, 1).format("'o''clock'"));
+	}
+
+	@Test
+	public void shouldAppendToStringBuilder() throws Exception {
+		final StringBuilder out = new StringBuilder("date: ");
+		LocalDate.on(1977, 12, 22).formatTo(out, "dd/MM/yyyy");
+		out.append(", time: ");
+		LocalDateTime.at(1977, 12, 22, 5, 12, 34).formatTo(out, "HH:mm:ss");
+		assertEquals("date: 22/12/1977, time: 05:12:34", out.toString());
+	}
+
+	@Test
+	public void shouldAppendToWriterAndCharBuffer() throws Exception {
+		final StringWriter writer = new StringWriter();
+		LocalDate.on(1977, 12, 22).formatTo(writer, "yyyy-MM-dd");
+		assertEquals("1977-12-22", writer.toString());
+
+		final CharBuffer buffer = CharBuffer.allocate(32);
+		LocalDateTime.at(1977, 12, 22, 5, 12, 34).formatTo(buffer, IsoDateParser.DATE_TIME_PATTERN);
+		buffer.flip();
+		assertEquals("1977-12-22T05:12:34", buffer.toString());
+	}
+
+	@Test
+	public void shouldAppendNotApplicableForInfiniteDate() throws Exception {
+		final StringBuilder out = new StringBuilder();
+		LocalDate.infinite().formatTo(out, "dd/MM/yyyy");
+		assertEquals("N/A", out.toString());
+	}
+
+	@Test
+	public void shouldReusePrecompiledFormatter() throws Exception {
+		final DateFormatter formatter = DateFormatter.forPattern("dd.MM.yyyy");
+		assertSame(formatter, DateFormatter.forPattern("dd.MM.yyyy"));
+		assertEquals("01.02.0003", formatter.print(LocalDate.on(3, 2, 1)));
+		assertEquals("dd.MM.yyyy", formatter.getPattern());
+	}
+}
@@ -0,0 +1,131 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+import org.joda.time.DateTimeZone;
+
+import org.junit.Test;
+
+public class DateParserTest {
+
+	private static final String[] PATTERNS = { "dd/MM/yyyy", "yyyy-MM-dd", "yyyyMMdd", "d/M/yy", "dd.MM.yy",
+			"dd/MM/yyyy HH:mm:ss", "MM/dd/yyyy", "'on' dd 'of' MM, yyyy", "EEE MMM dd yyyy",
+			"HH 'o''clock' dd/MM/yyyy" };
+
+	private static final String[] INPUTS = { "22/12/1977", "1977-12-22", "19771222", "2/3/04", "29/02/2008",
+			"29/02/2009", "31/04/2010", "1/2/2010", "22/13/1977", "00/12/1977", "22/12/0000", "2010-1-5",
+			"2010-01-05T10:00", "20100105", "2010010", "05.01.10", "05.01.95", "05.01.2010", "22/12/1977 10:11:12",
+			"22/12/1977 24:11:12", "22/12/1977 10:60:12", "22/12/1977 10:11", "12/31/1999", "on 05 of 01, 2010",
+			"on 5 of 1, 2010", "at 05 of 01, 2010", "Thu Dec 22 1977", "hello", "22/12/ 1977", "-1/12/1977",
+			" 22/12/1977", "22-12-1977", "1977-12-22 trailing", "01/01/00", "1/1/00", "09 o'clock 22/12/1977",
+			"09 oclock 22/12/1977", "01/ 6/2010",
+			"01/\t6/2010" };
+
+	@Test
+	public void shouldParseLikeNonLenientSimpleDateFormat() throws Exception {
+		for (final String pattern : PATTERNS) {
+			final DateParser parser = DateParser.forPattern(pattern);
+			for (final String input : INPUTS) {
+				final LocalDate expected = parseWithSimpleDateFormat(input, pattern);
+				if (expected == null || expected.getYear() > 1582) {
+					assertEquals(pattern + " / " + input, expected, parser.parse(input));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldMatchDoubledQuoteInsideQuotedTextAsQuote() throws Exception {
+		final DateParser parser = DateParser.forPattern("HH 'o''clock' dd/MM/yyyy");
+		assertEquals(LocalDate.on(1977, 12, 22), parser.parse("09 o'clock 22/12/1977"));
+		assertNull(parser.parse("09 oclock 22/12/1977"));
+	}
+
+	@Test
+	public void shouldPlaceTwoDigitYearZeroInItsCentury() throws Exception {
+		assertEquals(LocalDate.on(2000, 1, 1), DateParser.forPattern("dd/MM/yy").parse("01/01/00"));
+		assertEquals(LocalDate.on(2000, 1, 1), DateParser.forPattern("d/M/yy").parse("1/1/00"));
+	}
+
+	@Test
+	public void shouldParseDatesBeforeGregorianCutoverAsProlepticGregorian() throws Exception {
+		assertEquals(LocalDate.on(4, 3, 2), DateParser.forPattern("dd/MM/yyyy").parse("02/03/0004"));
+		assertEquals(LocalDate.on(1582, 10, 10), DateParser.forPattern("dd/MM/yyyy").parse("10/10/1582"));
+	}
+
+	@Test
+	public void shouldReturnSameParserForSamePattern() throws Exception {
+		assertSame(DateParser.forPattern("dd/MM/yyyy"), DateParser.forPattern("dd/MM/yyyy"));
+		assertEquals("dd/MM/yyyy", DateParser.forPattern("dd/MM/yyyy").getPattern());
+	}
+
+	@Test
+	public void shouldSkipSpacesAndTabsBeforeNumericFields() throws Exception {
+		assertEquals(LocalDate.on(2010, 6, 1), DateParser.forPattern("dd/MM/yyyy").parse("01/ 6/2010"));
+		assertEquals(LocalDate.on(2010, 6, 1), DateParser.forPattern("dd/MM/yyyy").parse(" 01/\t6/2010"));
+	}
+
+	@Test
+	public void shouldFollowDefaultLocaleAndZoneChangesInFallbackPatterns() throws Exception {
+		final Locale defaultLocale = Locale.getDefault();
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			Locale.setDefault(Locale.UK);
+			final DateParser parser = DateParser.forPattern("dd MMMM yyyy");
+			assertEquals(LocalDate.on(1977, 12, 22), parser.parse("22 December 1977"));
+			Locale.setDefault(Locale.FRANCE);
+			assertEquals(LocalDate.on(1977, 12, 22), parser.parse("22 d\u00e9cembre 1977"));
+			Locale.setDefault(Locale.UK);
+			DateTimeZone.setDefault(DateTimeZone.forID("America/Los_Angeles"));
+			assertEquals(LocalDate.on(1977, 12, 22), parser.parse("22 December 1977"));
+		} finally {
+			Locale.setDefault(defaultLocale);
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldReturnEpochDayOrInvalid() throws Exception {
+		final DateParser parser = DateParser.forPattern("yyyy-MM-dd");
+		assertEquals(LocalDate.on(2010, 1, 5).toEpochDay(), parser.parseEpochDay("2010-01-05"));
+		assertEquals(DateParser.INVALID, parser.parseEpochDay("2010-02-30"));
+		assertEquals(DateParser.INVALID, parser.parseEpochDay(""));
+	}
+
+	@Test
+	public void shouldParseRegionOfText() throws Exception {
+		final DateParser parser = DateParser.forPattern("dd/MM/yyyy");
+		assertEquals(LocalDate.on(1977, 12, 22).toEpochDay(), parser.parseEpochDay("x,22/12/1977,y", 2, 12));
+		assertEquals(DateParser.INVALID, parser.parseEpochDay("x,22/12/1977,y", 2, 8));
+	}
+
+	@Test
+	public void shouldReturnNullForEmptyText() throws Exception {
+		assertNull(DateParser.forPattern("dd/MM/yyyy").parse(""));
+		assertNull(DateParser.forPattern("dd/MM/yyyy").parse(null));
+	}
+
+	@Test
+	public void shouldRejectInvalidPatterns() throws Exception {
+		try {
+			DateParser.forPattern("dd/qq/yyyy");
+			fail("expected exception");
+		} catch (final IllegalArgumentException e) {
+			assertTrue(true);
+		}
+	}
+
+	private LocalDate parseWithSimpleDateFormat(final String input, final String pattern) {
+		final SimpleDateFormat format = new SimpleDateFormat(pattern);
+		format.setLenient(false);
+		try {
+			return LocalDate.onDate(format.parse(input));
+		} catch (final ParseException e) {
+			return null;
+		}
+	}
+}
@@ -104,4 +104,49 @@ public class DurationTest {
 			assertTrue(e.getMessage().contains("negative"));
 		}
 	}
+
+	@Test
+	public void shouldReturnCachedInstancesForCommonLengths() throws Exception {
+		assertSame(Duration.ofDays(0), Duration.ofDays(0));
+		assertSame(Duration.ofDays(3660), Duration.ofDays(3660));
+		assertEquals(Duration.ofDays(3661), Duration.ofDays(3661));
+		assertEquals(14, Duration.ofDays(14).toDays());
+	}
+
+	@Test
+	public void shouldAddDurationsSaturatingToInfinite() throws Exception {
+		assertEquals(Duration.ofDays(15), Duration.ofDays(10).plus(Duration.ofDays(5)));
+		assertEquals(Duration.infinite(), Duration.ofDays(10).plus(Duration.infinite()));
+		assertEquals(Duration.infinite(), Duration.infinite().plus(Duration.ofDays(10)));
+		assertEquals(Duration.infinite(), Duration.ofDays(Integer.MAX_VALUE).plus(Duration.ofDays(1)));
+	}
+
+	@Test
+	public void shouldSubtractDurationsSaturatingToZero() throws Exception {
+		assertEquals(Duration.ofDays(5), Duration.ofDays(10).minus(Duration.ofDays(5)));
+		assertEquals(Duration.ofDays(0), Duration.ofDays(5).minus(Duration.ofDays(10)));
+		assertEquals(Duration.ofDays(0), Duration.ofDays(5).minus(Duration.infinite()));
+		assertEquals(Duration.infinite(), Duration.infinite().minus(Duration.ofDays(10)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldNotSubtractInfiniteDurationFromInfiniteDuration() throws Exception {
+		Duration.infinite().minus(Duration.infinite());
+	}
+
+	@Test
+	public void shouldMultiplyDurationsSaturatingToInfinite() throws Exception {
+		assertEquals(Duration.ofDays(30), Duration.ofDays(10).multipliedBy(3));
+		assertEquals(Duration.ofDays(0), Duration.infinite().multipliedBy(0));
+		assertEquals(Duration.infinite(), Duration.infinite().multipliedBy(2));
+		assertEquals(Duration.infinite(), Duration.ofDays(1 << 30).multipliedBy(2));
+	}
+
+	@Test
+	public void shouldReturnShorterAndLongerDurations() throws Exception {
+		assertEquals(Duration.ofDays(5), Duration.ofDays(5).min(Duration.ofDays(10)));
+		assertEquals(Duration.ofDays(10), Duration.infinite().min(Duration.ofDays(10)));
+		assertEquals(Duration.infinite(), Duration.ofDays(10).max(Duration.infinite()));
+		assertEquals(Duration.ofDays(10), Duration.ofDays(5).max(Duration.ofDays(10)));
+	}
 }
@@ -0,0 +1,80 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import org.joda.time.chrono.ISOChronology;
+import org.junit.Test;
+
+public class EpochDaysTest {
+
+	@Test
+	public void shouldCountDaysFromUnixEpoch() throws Exception {
+		assertEquals(0, EpochDays.of(1970, 1, 1));
+		assertEquals(1, EpochDays.of(1970, 1, 2));
+		assertEquals(-1, EpochDays.of(1969, 12, 31));
+		assertEquals(10957, EpochDays.of(2000, 1, 1));
+	}
+
+	@Test
+	public void shouldAgreeWithJodaForEveryDayAcrossSeveralCenturies() throws Exception {
+		org.joda.time.LocalDate joda = new org.joda.time.LocalDate(1599, 1, 1, ISOChronology.getInstanceUTC());
+		for (int epochDay = EpochDays.of(1599, 1, 1); epochDay <= EpochDays.of(2401, 12, 31); epochDay++) {
+			assertEquals(joda.getYear(), EpochDays.year(epochDay));
+			assertEquals(joda.getMonthOfYear(), EpochDays.monthOfYear(epochDay));
+			assertEquals(joda.getDayOfMonth(), EpochDays.dayOfMonth(epochDay));
+			assertEquals(joda.getDayOfWeek(), EpochDays.dayOfWeek(epochDay));
+			assertEquals(joda.getDayOfYear(), EpochDays.dayOfYear(epochDay));
+			assertEquals(joda.getWeekOfWeekyear(), EpochDays.weekOfWeekyear(epochDay));
+			assertEquals(epochDay, EpochDays.of(joda));
+			joda = joda.plusDays(1);
+		}
+	}
+
+	@Test
+	public void shouldRoundTripNegativeYears() throws Exception {
+		final int epochDay = EpochDays.of(-44, 3, 15);
+		assertEquals(-44, EpochDays.year(epochDay));
+		assertEquals(3, EpochDays.monthOfYear(epochDay));
+		assertEquals(15, EpochDays.dayOfMonth(epochDay));
+	}
+
+	@Test
+	public void shouldClampDayWhenAddingMonths() throws Exception {
+		assertEquals(EpochDays.of(2008, 2, 29), EpochDays.plusMonths(EpochDays.of(2008, 1, 31), 1));
+		assertEquals(EpochDays.of(2009, 2, 28), EpochDays.plusMonths(EpochDays.of(2008, 2, 29), 12));
+		assertEquals(EpochDays.of(2007, 11, 30), EpochDays.plusMonths(EpochDays.of(2008, 3, 31), -4));
+	}
+
+	@Test
+	public void shouldRejectInvalidFields() throws Exception {
+		try {
+			EpochDays.of(2009, 2, 29);
+			fail("expected exception");
+		} catch (final IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("dayOfMonth"));
+		}
+		try {
+			EpochDays.of(2009, 13, 1);
+			fail("expected exception");
+		} catch (final IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("monthOfYear"));
+		}
+	}
+
+	@Test
+	public void shouldRejectDatesOutsideSupportedRange() throws Exception {
+		try {
+			EpochDays.plusDays(EpochDays.MAX_EPOCH_DAY, 1);
+			fail("expected exception");
+		} catch (final IllegalArgumentException e) {
+			assertTrue(true);
+		}
+	}
+
+	@Test
+	public void shouldFloorDivideNegativeValues() throws Exception {
+		assertEquals(-1, EpochDays.floorDiv(-1, EpochDays.MILLIS_PER_DAY));
+		assertEquals(0, EpochDays.floorDiv(0, EpochDays.MILLIS_PER_DAY));
+		assertEquals(-1, EpochDays.floorDiv(-EpochDays.MILLIS_PER_DAY, EpochDays.MILLIS_PER_DAY));
+	}
+}
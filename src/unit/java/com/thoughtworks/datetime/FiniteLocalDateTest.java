@@ -2,8 +2,12 @@ package com.thoughtworks.datetime;
 
 import static junit.framework.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 
+import org.joda.time.DateTimeZone;
 import org.junit.After;
 import org.junit.Test;
 
@@ -22,6 +26,28 @@ public class FiniteLocalDateTest {
 		assertEquals(calAtMidnight.getTime(), date.getDate());
 	}
 
+	@Test
+	public void shouldReturnEpochMillisAtMidnight() throws Exception {
+		final Calendar calAtMidnight = createCalendarForDateAtMidnight(2001, Calendar.OCTOBER, 25);
+		final FiniteLocalDate date = LocalDate.on(2001, 10, 25);
+		assertEquals(calAtMidnight.getTimeInMillis(), date.toEpochMillis());
+		assertEquals(11620, date.toEpochDay());
+	}
+
+	@Test
+	public void shouldResolveMidnightInDaylightSavingGapAfterTheGap() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("America/Sao_Paulo"));
+			final FiniteLocalDate date = LocalDate.on(2010, 10, 17);
+			assertEquals(date.getDate(), date.toCalendar().getTime());
+			assertEquals(date.toEpochMillis(), date.toCalendar().getTimeInMillis());
+			assertEquals(1, date.toCalendar().get(Calendar.HOUR_OF_DAY));
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
 	@Test
 	public void shouldReturnFiniteLocalDateWhenNotInfinite() throws Exception {
 		assertEquals(LocalDate.today(), LocalDate.today().toFiniteLocalDate());
@@ -296,6 +322,28 @@ public class FiniteLocalDateTest {
 		assertTrue(LocalDate.today().isBefore(LocalDate.infinite()));
 	}
 
+	@Test
+	public void shouldCompareAgainstDateTimesOnTheirLocalDate() throws Exception {
+		assertFalse(LocalDate.on(1935, 1, 8).isAfter(LocalDateTime.at(1935, 1, 8, 23, 59, 59)));
+		assertTrue(LocalDate.on(1935, 1, 9).isAfter(LocalDateTime.at(1935, 1, 8, 23, 59, 59)));
+		assertFalse(LocalDate.on(1935, 1, 8).isBefore(LocalDateTime.at(1935, 1, 8, 0, 0, 0)));
+		assertTrue(LocalDate.on(1935, 1, 7).isBefore(LocalDateTime.at(1935, 1, 8, 0, 0, 0)));
+	}
+
+	@Test
+	public void shouldSortDatesChronologically() throws Exception {
+		final List<LocalDate> dates = new ArrayList<LocalDate>();
+		dates.add(LocalDate.infinite());
+		dates.add(LocalDate.on(2001, 1, 1));
+		dates.add(LocalDate.on(1999, 12, 31));
+		dates.add(LocalDate.on(2000, 2, 29));
+		Collections.sort(dates);
+		assertEquals(LocalDate.on(1999, 12, 31), dates.get(0));
+		assertEquals(LocalDate.on(2000, 2, 29), dates.get(1));
+		assertEquals(LocalDate.on(2001, 1, 1), dates.get(2));
+		assertEquals(LocalDate.infinite(), dates.get(3));
+	}
+
 	@Test
 	public void shouldReturnCorrectResultForIsOnOrAfterComparison() throws Exception {
 		assertTrue(LocalDate.on(1935, 1, 8).isOnOrAfter(LocalDate.on(1935, 1, 8)));
@@ -367,6 +415,27 @@ public class FiniteLocalDateTest {
 		assertEquals(Duration.infinite(), LocalDate.on(1963, 11, 22).durationUntil(LocalDate.infinite()));
 	}
 
+	@Test
+	public void shouldCountDaysUntilDatesAndDateTimes() throws Exception {
+		assertEquals(5, LocalDate.on(1963, 11, 22).daysUntil(LocalDate.on(1963, 11, 27)));
+		assertEquals(-5, LocalDate.on(1963, 11, 22).daysUntil(LocalDate.on(1963, 11, 17)));
+		assertEquals(1, LocalDate.on(2010, 3, 27).daysUntil(LocalDate.on(2010, 3, 28)));
+		assertEquals(2, LocalDate.on(2010, 3, 27).daysUntil(LocalDateTime.at(2010, 3, 29, 23, 0, 0)));
+		assertEquals(0, LocalDate.on(2010, 3, 27).daysUntil(LocalDateTime.at(2010, 3, 26, 23, 0, 0)));
+	}
+
+	@Test
+	public void shouldCountWholeMonthsAndYearsUntilDates() throws Exception {
+		assertEquals(0, LocalDate.on(2010, 1, 31).monthsUntil(LocalDate.on(2010, 2, 28)));
+		assertEquals(1, LocalDate.on(2010, 1, 31).monthsUntil(LocalDate.on(2010, 3, 1)));
+		assertEquals(1, LocalDate.on(2010, 1, 15).monthsUntil(LocalDate.on(2010, 2, 15)));
+		assertEquals(-1, LocalDate.on(2010, 2, 15).monthsUntil(LocalDate.on(2010, 1, 15)));
+		assertEquals(0, LocalDate.on(2010, 2, 15).monthsUntil(LocalDate.on(2010, 1, 16)));
+		assertEquals(3, LocalDate.on(2008, 2, 29).yearsUntil(LocalDate.on(2012, 2, 28)));
+		assertEquals(4, LocalDate.on(2008, 2, 29).yearsUntil(LocalDate.on(2012, 2, 29)));
+		assertEquals(-1, LocalDate.on(2008, 2, 29).yearsUntil(LocalDate.on(2007, 2, 28)));
+	}
+
 	@Test
 	public void shouldBeEqualToEquivalentLocalDate() throws Exception {
 		assertEquals(LocalDate.on(2001, Date.Month.OCTOBER, 25), LocalDate.on(2001, 10, 25));
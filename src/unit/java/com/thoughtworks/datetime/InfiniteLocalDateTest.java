@@ -36,6 +36,12 @@ public class InfiniteLocalDateTest {
 		}
 	}
 
+	@Test
+	public void shouldReturnSentinelEpochValues() throws Exception {
+		assertEquals(Integer.MAX_VALUE, LocalDate.infinite().toEpochDay());
+		assertEquals(Long.MAX_VALUE, LocalDate.infinite().toEpochMillis());
+	}
+
 	@Test
 	public void shouldReturnTrueFromIsInfinite() throws Exception {
 		assertTrue(LocalDate.infinite().isInfinite());
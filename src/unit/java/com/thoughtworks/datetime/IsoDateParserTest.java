@@ -0,0 +1,62 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import org.junit.Test;
+
+public class IsoDateParserTest {
+
+	@Test
+	public void shouldParseIsoDate() throws Exception {
+		assertEquals(LocalDate.on(1977, 12, 22), IsoDateParser.parseDate("1977-12-22"));
+		assertEquals(LocalDate.on(2008, 2, 29), IsoDateParser.parseDate("2008-02-29"));
+	}
+
+	@Test
+	public void shouldParseIsoDateAtOffset() throws Exception {
+		assertEquals(LocalDate.on(1977, 12, 22), IsoDateParser.parseDate("id=7,1977-12-22,x", 5));
+		assertEquals(LocalDate.on(1977, 12, 22).toEpochDay(), IsoDateParser.parseEpochDay(
+				new StringBuilder("  1977-12-22"), 2));
+	}
+
+	@Test
+	public void shouldReturnNullForMalformedIsoDate() throws Exception {
+		assertNull(IsoDateParser.parseDate("1977-12-2"));
+		assertNull(IsoDateParser.parseDate("1977/12/22"));
+		assertNull(IsoDateParser.parseDate("1977-13-22"));
+		assertNull(IsoDateParser.parseDate("2009-02-29"));
+		assertNull(IsoDateParser.parseDate("2009-04-31"));
+		assertNull(IsoDateParser.parseDate("0000-01-01"));
+		assertNull(IsoDateParser.parseDate("19a7-12-22"));
+		assertNull(IsoDateParser.parseDate("1977-12-22", 1));
+		assertNull(IsoDateParser.parseDate(null));
+	}
+
+	@Test
+	public void shouldParseIsoDateTime() throws Exception {
+		assertEquals(LocalDateTime.at(2007, 1, 1, 10, 30, 1), IsoDateParser.parseDateTime("2007-01-01T10:30:01"));
+		assertEquals(LocalDateTime.at(2007, 1, 1, 23, 59, 59), IsoDateParser.parseDateTime(
+				"at 2007-01-01T23:59:59Z", 3));
+	}
+
+	@Test
+	public void shouldReturnNullForMalformedIsoDateTime() throws Exception {
+		assertNull(IsoDateParser.parseDateTime("2007-01-01 10:30:01"));
+		assertNull(IsoDateParser.parseDateTime("2007-01-01T24:00:00"));
+		assertNull(IsoDateParser.parseDateTime("2007-01-01T10:60:00"));
+		assertNull(IsoDateParser.parseDateTime("2007-01-01T10:30:60"));
+		assertNull(IsoDateParser.parseDateTime("2007-01-01T10-30-01"));
+		assertNull(IsoDateParser.parseDateTime("2007-01-01T10:30"));
+	}
+
+	@Test
+	public void shouldUseIsoParserForIsoPatterns() throws Exception {
+		assertEquals(LocalDate.on(2010, 1, 5), LocalDate.parseDate("2010-01-05", IsoDateParser.DATE_PATTERN));
+		assertEquals(LocalDate.on(2010, 1, 5), LocalDate.parseDate("2010-1-5", IsoDateParser.DATE_PATTERN));
+		assertNull(LocalDate.parseDate("2010-01-0512", IsoDateParser.DATE_PATTERN));
+		assertEquals(LocalDateTime.at(2010, 1, 5, 8, 0, 0), LocalDateTime.parseDateTime("2010-01-05T08:00:00",
+				IsoDateParser.DATE_TIME_PATTERN));
+		assertEquals(LocalDateTime.at(2010, 1, 5, 8, 0, 0), LocalDateTime.parseDateTime("2010-1-5T08:00:00",
+				IsoDateParser.DATE_TIME_PATTERN));
+	}
+}
@@ -0,0 +1,120 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class LocalDateSetTest {
+
+	@Test
+	public void shouldContainAddedDates() throws Exception {
+		final LocalDateSet dates = new LocalDateSet();
+		assertTrue(dates.add(LocalDate.on(2010, 1, 5)));
+		assertFalse(dates.add(LocalDate.on(2010, 1, 5)));
+		assertTrue(dates.add(LocalDate.on(1969, 12, 31)));
+		assertEquals(2, dates.size());
+		assertTrue(dates.contains(LocalDate.on(2010, 1, 5)));
+		assertTrue(dates.contains(LocalDate.on(1969, 12, 31)));
+		assertFalse(dates.contains(LocalDate.on(2010, 1, 6)));
+		assertFalse(dates.contains(LocalDate.infinite()));
+		assertFalse(dates.contains("2010-01-05"));
+	}
+
+	@Test
+	public void shouldRemoveDates() throws Exception {
+		final LocalDateSet dates = new LocalDateSet();
+		dates.add(LocalDate.on(2010, 1, 5));
+		assertFalse(dates.remove(LocalDate.on(2010, 1, 6)));
+		assertTrue(dates.remove(LocalDate.on(2010, 1, 5)));
+		assertTrue(dates.isEmpty());
+	}
+
+	@Test
+	public void shouldReturnFirstAndLastDates() throws Exception {
+		final LocalDateSet dates = LocalDateSet.of(Period.of(LocalDate.on(2009, 12, 1), LocalDate.on(2010, 3, 1)));
+		dates.add(LocalDate.on(1900, 1, 1));
+		assertEquals(LocalDate.on(1900, 1, 1), dates.first());
+		assertEquals(LocalDate.on(2010, 3, 1), dates.last());
+		assertEquals(LocalDate.on(1900, 1, 1).toEpochDay(), dates.minEpochDay());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void shouldThrowNoSuchElementExceptionForFirstDateOfEmptySet() throws Exception {
+		new LocalDateSet().first();
+	}
+
+	@Test
+	public void shouldBeEqualToOtherSetsOfSameDates() throws Exception {
+		final TreeSet<FiniteLocalDate> expected = new TreeSet<FiniteLocalDate>(randomDates(new Random(1), 500, 3000));
+		final LocalDateSet dates = new LocalDateSet(expected);
+		assertEquals(expected, dates);
+		assertEquals(dates, expected);
+		assertEquals(expected.hashCode(), dates.hashCode());
+		assertEquals(new ArrayList<FiniteLocalDate>(expected), new ArrayList<FiniteLocalDate>(dates));
+	}
+
+	@Test
+	public void shouldMatchTreeSetForSparseAndDenseDates() throws Exception {
+		final Random random = new Random(42);
+		for (final int spread : new int[] { 100, 5000, 100000 }) {
+			final List<FiniteLocalDate> left = randomDates(random, 2000, spread);
+			final List<FiniteLocalDate> right = randomDates(random, 2000, spread);
+			final TreeSet<FiniteLocalDate> union = new TreeSet<FiniteLocalDate>(left);
+			union.addAll(right);
+			final TreeSet<FiniteLocalDate> intersection = new TreeSet<FiniteLocalDate>(left);
+			intersection.retainAll(right);
+			final TreeSet<FiniteLocalDate> difference = new TreeSet<FiniteLocalDate>(left);
+			difference.removeAll(right);
+
+			final LocalDateSet leftSet = new LocalDateSet(left);
+			final LocalDateSet rightSet = new LocalDateSet(right);
+			assertEquals(union, leftSet.union(rightSet));
+			assertEquals(intersection, leftSet.intersection(rightSet));
+			assertEquals(difference, leftSet.difference(rightSet));
+			assertEquals(union.first(), leftSet.union(rightSet).first());
+			assertEquals(union.last(), leftSet.union(rightSet).last());
+
+			leftSet.removeAll(rightSet);
+			assertEquals(difference, leftSet);
+			for (final FiniteLocalDate date : right) {
+				rightSet.remove(date);
+			}
+			assertTrue(rightSet.isEmpty());
+		}
+	}
+
+	@Test
+	public void shouldRemoveThroughIterator() throws Exception {
+		final LocalDateSet dates = LocalDateSet.of(Period.of(LocalDate.on(2010, 1, 1), Duration.ofDays(5000)));
+		final Iterator<FiniteLocalDate> iterator = dates.iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			final FiniteLocalDate date = iterator.next();
+			if (date.getDayOfMonth() != 1) {
+				iterator.remove();
+			}
+			count++;
+		}
+		assertEquals(5000, count);
+		assertEquals(165, dates.size());
+		for (final FiniteLocalDate date : dates) {
+			assertEquals(1, date.getDayOfMonth());
+		}
+	}
+
+	private static List<FiniteLocalDate> randomDates(final Random random, final int count, final int spread) {
+		final FiniteLocalDate base = LocalDate.on(2000, 1, 1);
+		final List<FiniteLocalDate> dates = new ArrayList<FiniteLocalDate>();
+		for (int i = 0; i < count; i++) {
+			dates.add(base.plusDays(random.nextInt(spread) - spread / 2));
+		}
+		return dates;
+	}
+}
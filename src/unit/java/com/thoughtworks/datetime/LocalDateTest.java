@@ -4,6 +4,7 @@ import static junit.framework.Assert.*;
 
 import java.util.Calendar;
 
+import org.joda.time.DateTimeZone;
 import org.junit.After;
 import org.junit.Test;
 
@@ -12,6 +13,49 @@ public class LocalDateTest {
 	@After
 	public void resetDateTime() throws Exception {
 		LocalDateTime.resetSystemDateTime();
+		LocalDate.disableInterning();
+	}
+
+	@Test
+	public void shouldReturnSharedInstancesInsideInterningWindow() throws Exception {
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 14, 12, 0, 0));
+		LocalDate.enableInterning(365);
+		assertTrue(LocalDate.isInterningEnabled());
+		final FiniteLocalDate date = LocalDate.on(2010, 6, 1);
+		assertSame(date, LocalDate.on(2010, Date.Month.JUNE, 1));
+		assertSame(date, LocalDate.on(2010, 5, 31).plusDays(1));
+		assertSame(date, LocalDate.on(2010, 5, 1).plusMonths(1));
+		assertSame(date, IsoDateParser.parseDate("2010-06-01"));
+		assertSame(date, DateParser.forPattern("dd/MM/yyyy").parse("01/06/2010"));
+	}
+
+	@Test
+	public void shouldReturnNewInstancesOutsideInterningWindow() throws Exception {
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 14, 12, 0, 0));
+		LocalDate.enableInterning(365);
+		assertSame(LocalDate.on(2011, 3, 14), LocalDate.on(2011, 3, 14));
+		assertNotSame(LocalDate.on(2011, 3, 15), LocalDate.on(2011, 3, 15));
+		assertEquals(LocalDate.on(2011, 3, 15), LocalDate.on(2011, 3, 15));
+	}
+
+	@Test
+	public void shouldRejectInterningWindowOverACentury() throws Exception {
+		try {
+			LocalDate.enableInterning(Integer.MAX_VALUE);
+			fail();
+		} catch (final IllegalArgumentException e) {
+			assertFalse(LocalDate.isInterningEnabled());
+		}
+		LocalDate.enableInterning(36525);
+		assertSame(LocalDate.today().plusDays(36525), LocalDate.today().plusDays(36525));
+	}
+
+	@Test
+	public void shouldReturnNewInstancesWhenInterningDisabled() throws Exception {
+		LocalDate.enableInterning(365);
+		LocalDate.disableInterning();
+		assertFalse(LocalDate.isInterningEnabled());
+		assertNotSame(LocalDate.on(2010, 6, 1), LocalDate.on(2010, 6, 1));
 	}
 
 	@Test
@@ -53,6 +97,35 @@ public class LocalDateTest {
 		assertEquals(calAtMidnight.getTime(), date.getDate());
 	}
 
+	@Test
+	public void shouldRollTodayOverAtMidnight() throws Exception {
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 27, 23, 59, 59));
+		assertEquals(LocalDate.on(2010, 3, 27), LocalDate.today());
+		assertTrue(LocalDate.on(2010, 3, 26).isBeforeNow());
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 28, 0, 0, 0));
+		assertEquals(LocalDate.on(2010, 3, 28), LocalDate.today());
+		assertFalse(LocalDate.on(2010, 3, 28).isBeforeNow());
+		assertTrue(LocalDate.on(2010, 3, 27).isBeforeNow());
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 28, 23, 59, 59));
+		assertEquals(LocalDate.on(2010, 3, 28), LocalDate.today());
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 27, 12, 0, 0));
+		assertEquals(LocalDate.on(2010, 3, 27), LocalDate.today());
+	}
+
+	@Test
+	public void shouldRecalculateTodayWhenDefaultZoneChanges() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Pacific/Kiritimati"));
+			LocalDateTime.setSystemDateTime(LocalDateTime.at(2010, 3, 27, 23, 0, 0));
+			assertEquals(LocalDate.on(2010, 3, 27), LocalDate.today());
+			DateTimeZone.setDefault(DateTimeZone.forID("Pacific/Pago_Pago"));
+			assertEquals(LocalDate.on(2010, 3, 26), LocalDate.today());
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
 	@Test
 	public void shouldBeCurrentDateAtMidnightWhenCreatedWithTodayFactoryMethod() throws Exception {
 		Calendar systemCal;
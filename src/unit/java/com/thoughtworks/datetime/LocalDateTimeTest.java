@@ -4,6 +4,8 @@ import static junit.framework.Assert.*;
 
 import java.util.Calendar;
 
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.junit.After;
 import org.junit.Test;
 
@@ -14,6 +16,27 @@ public class LocalDateTimeTest {
 	@After
 	public void resetDateTime() throws Exception {
 		LocalDateTime.resetSystemDateTime();
+		LocalDateTime.disableCoarseClock();
+	}
+
+	@Test
+	public void shouldShareCurrentSecondWhenCoarseClockEnabled() throws Exception {
+		LocalDateTime.enableCoarseClock();
+		assertTrue(LocalDateTime.isCoarseClockEnabled());
+		LocalDateTime first;
+		LocalDateTime second;
+		LocalDateTime expected;
+		do {
+			expected = LocalDateTime.onDate(new java.util.Date());
+			first = LocalDateTime.now();
+			second = LocalDateTime.now();
+		} while (!expected.equals(LocalDateTime.onDate(new java.util.Date())));
+		assertEquals(expected, first);
+		assertSame(first, second);
+		LocalDateTime.setSystemDateTime(LocalDateTime.at(1985, 10, 26, 1, 21, 0));
+		assertEquals(LocalDateTime.at(1985, 10, 26, 1, 21, 0), LocalDateTime.now());
+		LocalDateTime.disableCoarseClock();
+		assertFalse(LocalDateTime.isCoarseClockEnabled());
 	}
 
 	@Test
@@ -450,6 +473,40 @@ public class LocalDateTimeTest {
 		assertEquals(LocalDateTime.at(1963, 11, 22, 0, 0, 0).daysUntil(LocalDateTime.at(1969, 7, 20, 0, 0, 0)), 2067);
 	}
 
+	@Test
+	public void shouldCountDaysAcrossDaylightSavingChangesInLocalTime() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Europe/London"));
+			assertEquals(1, LocalDateTime.at(2010, 3, 27, 12, 0, 0).daysUntil(LocalDateTime.at(2010, 3, 28, 12, 0, 0)));
+			assertEquals(-1, LocalDateTime.at(2010, 10, 31, 12, 0, 0).daysUntil(LocalDateTime.at(2010, 10, 30, 12, 0,
+					0)));
+			assertEquals(Duration.ofDays(1), LocalDateTime.at(2010, 3, 27, 12, 0, 0).durationUntil(
+					LocalDate.on(2010, 3, 29)));
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldReturnInfiniteDurationUntilInfiniteDate() throws Exception {
+		assertEquals(Duration.infinite(), LocalDateTime.at(2010, 3, 27, 12, 0, 0).durationUntil(LocalDate.infinite()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldNotGetDurationUntilEarlierDate() throws Exception {
+		LocalDateTime.at(2010, 3, 27, 12, 0, 0).durationUntil(LocalDateTime.at(2010, 3, 27, 11, 59, 59));
+	}
+
+	@Test
+	public void shouldCountWholeMonthsAndYearsUsingTimeOfDay() throws Exception {
+		assertEquals(0, LocalDateTime.at(2010, 1, 15, 12, 0, 0).monthsUntil(LocalDateTime.at(2010, 2, 15, 11, 59, 59)));
+		assertEquals(1, LocalDateTime.at(2010, 1, 15, 12, 0, 0).monthsUntil(LocalDateTime.at(2010, 2, 15, 12, 0, 0)));
+		assertEquals(0, LocalDateTime.at(2010, 2, 15, 12, 0, 0).monthsUntil(LocalDateTime.at(2010, 1, 15, 12, 0, 1)));
+		assertEquals(-1, LocalDateTime.at(2010, 2, 15, 12, 0, 0).monthsUntil(LocalDate.on(2010, 1, 15)));
+		assertEquals(1, LocalDateTime.at(2009, 2, 15, 0, 0, 0).yearsUntil(LocalDate.on(2010, 2, 15)));
+	}
+
 	@Test
 	public void shouldReturnCorrectDateTimeWhenAddingHours() {
 		final LocalDateTime currentTime = LocalDateTime.at(2005, 12, 5, 12, 45, 53);
@@ -457,6 +514,89 @@ public class LocalDateTimeTest {
 		assertEquals(currentTime.plusHours(24), LocalDateTime.at(2005, 12, 6, 12, 45, 53));
 	}
 
+	@Test
+	public void shouldAddHoursInLocalTimeAcrossDaylightSavingChanges() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Europe/London"));
+			final LocalDateTime beforeGap = LocalDateTime.at(2010, 3, 28, 0, 30, 0);
+			assertEquals(LocalDateTime.at(2010, 3, 28, 3, 30, 0), beforeGap.plusHours(3));
+			assertEquals(LocalDateTime.at(2010, 3, 28, 1, 30, 0).getDate(), LocalDateTime.at(2010, 3, 28, 2, 30, 0)
+					.getDate());
+			assertEquals(2, beforeGap.plusHours(2).hourOfDay());
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldConvertToInstantInDefaultZone() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Asia/Tokyo"));
+			final LocalDateTime dateTime = LocalDateTime.at(2010, 7, 1, 9, 0, 0);
+			assertEquals(new DateTime(2010, 7, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis(), dateTime.getDate()
+					.getTime());
+			assertEquals(dateTime, LocalDateTime.onDate(dateTime.getDate()));
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldReadFieldsOfDateTimesBeforeEpoch() throws Exception {
+		final LocalDateTime dateTime = LocalDateTime.at(1969, 12, 31, 23, 59, 58);
+		assertEquals(1969, dateTime.getYear());
+		assertEquals(12, dateTime.getMonthOfYear());
+		assertEquals(31, dateTime.getDayOfMonth());
+		assertEquals(3, dateTime.getDayOfWeek());
+		assertEquals(23, dateTime.hourOfDay());
+		assertEquals(59, dateTime.minuteOfHour());
+		assertEquals(58, dateTime.secondOfMinute());
+		assertEquals(LocalDateTime.at(1970, 1, 1, 0, 0, 1), dateTime.plusSeconds(3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectOutOfRangeHour() throws Exception {
+		LocalDateTime.at(2010, 3, 14, 24, 0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectOutOfRangeSecond() throws Exception {
+		LocalDateTime.at(2010, 3, 14, 12, 0, 60);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectOutOfRangeDayOfMonth() throws Exception {
+		LocalDateTime.at(2010, 2, 29, 12, 0, 0);
+	}
+
+	@Test
+	public void shouldReturnEpochValues() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Asia/Tokyo"));
+			final LocalDateTime dateTime = LocalDateTime.at(1970, 1, 2, 9, 0, 1);
+			assertEquals(1, dateTime.toEpochDay());
+			assertEquals(EpochDays.MILLIS_PER_DAY + 1000, dateTime.toEpochMillis());
+			assertEquals(dateTime.getDate().getTime(), dateTime.toEpochMillis());
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void shouldCompareWithDatesAndInfiniteDate() throws Exception {
+		final LocalDateTime dateTime = LocalDateTime.at(2010, 3, 14, 12, 0, 0);
+		assertTrue(dateTime.isAfter(LocalDate.on(2010, 3, 14)));
+		assertFalse(dateTime.isBefore(LocalDate.on(2010, 3, 14)));
+		assertTrue(dateTime.isBefore(LocalDate.on(2010, 3, 15)));
+		assertTrue(dateTime.isBefore(LocalDate.infinite()));
+		assertFalse(dateTime.isAfter(LocalDate.infinite()));
+		assertTrue(LocalDate.on(2010, 3, 14).isBefore(dateTime.plusDays(1)));
+		assertFalse(LocalDate.on(2010, 3, 14).isBefore(dateTime));
+	}
+
 	@Test
 	public void shouldReturnCorrectDateTimeWhenAddingMinutes() {
 		final LocalDateTime currentTime = LocalDateTime.at(2005, 12, 5, 12, 45, 53);
@@ -528,6 +668,19 @@ public class LocalDateTimeTest {
 		assertNull(LocalDateTime.parseDateTime("hello", "yyyyMMddHHmmss"));
 	}
 
+	@Test
+	public void shouldParseTimeInDaylightSavingGapOnEveryPatternPath() throws Exception {
+		final DateTimeZone defaultZone = DateTimeZone.getDefault();
+		try {
+			DateTimeZone.setDefault(DateTimeZone.forID("Europe/London"));
+			final LocalDateTime expected = LocalDateTime.at(2010, 3, 28, 1, 30, 0);
+			assertEquals(expected, LocalDateTime.parseDateTime("2010-03-28T01:30:00", IsoDateParser.DATE_TIME_PATTERN));
+			assertEquals(expected, LocalDateTime.parseDateTime("28/03/2010 01:30:00", "dd/MM/yyyy HH:mm:ss"));
+		} finally {
+			DateTimeZone.setDefault(defaultZone);
+		}
+	}
+
 	@Test
 	public void shouldFormatDateIntoStringUsingPattern() throws Exception {
 		final LocalDateTime dateTime = LocalDateTime.at(1977, 12, 22, 05, 12, 34);
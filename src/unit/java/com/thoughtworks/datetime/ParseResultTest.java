@@ -0,0 +1,111 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import org.junit.Test;
+
+public class ParseResultTest {
+
+	@Test
+	public void shouldNotBeSuccessfulBeforeParsing() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertFalse(result.isSuccess());
+		assertEquals(ParseResult.Reason.NONE, result.getReason());
+		assertNull(result.toLocalDate());
+	}
+
+	@Test
+	public void shouldHoldParsedDate() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertTrue(LocalDate.parseDateInto("22/12/1977", "dd/MM/yyyy", result));
+		assertTrue(result.isSuccess());
+		assertEquals(LocalDate.on(1977, 12, 22), result.toLocalDate());
+		assertEquals(LocalDate.on(1977, 12, 22).toEpochDay(), result.getEpochDay());
+		assertEquals(10, result.getEndIndex());
+		assertEquals(-1, result.getErrorIndex());
+	}
+
+	@Test
+	public void shouldReportEmptyInputAsMissing() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertFalse(LocalDate.parseDateInto("", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.EMPTY, result.getReason());
+		assertFalse(LocalDate.parseDateInto(null, "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.EMPTY, result.getReason());
+	}
+
+	@Test
+	public void shouldReportReasonAndPositionOfFailure() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertFalse(LocalDate.parseDateInto("22-12-1977", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.UNEXPECTED_CHARACTER, result.getReason());
+		assertEquals(2, result.getErrorIndex());
+
+		assertFalse(LocalDate.parseDateInto("22/xx/1977", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.EXPECTED_DIGIT, result.getReason());
+		assertEquals(3, result.getErrorIndex());
+
+		assertFalse(LocalDate.parseDateInto("22/13/1977", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.FIELD_OUT_OF_RANGE, result.getReason());
+		assertEquals(3, result.getErrorIndex());
+
+		assertFalse(LocalDate.parseDateInto("30/02/1977", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.FIELD_OUT_OF_RANGE, result.getReason());
+		assertEquals(0, result.getErrorIndex());
+
+		assertFalse(LocalDate.parseDateInto("22/12/", "dd/MM/yyyy", result));
+		assertEquals(ParseResult.Reason.END_OF_INPUT, result.getReason());
+		assertEquals(6, result.getErrorIndex());
+	}
+
+	@Test
+	public void shouldBeReusableAfterFailure() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertFalse(LocalDate.parseDateInto("hello", "dd/MM/yyyy", result));
+		assertTrue(LocalDate.parseDateInto("01/01/2000", "dd/MM/yyyy", result));
+		assertEquals(LocalDate.on(2000, 1, 1), result.toLocalDate());
+		assertEquals(ParseResult.Reason.NONE, result.getReason());
+	}
+
+	@Test
+	public void shouldThrowWhenReadingValueOfFailedParse() throws Exception {
+		final ParseResult result = new ParseResult();
+		LocalDate.parseDateInto("hello", "dd/MM/yyyy", result);
+		try {
+			result.getEpochDay();
+			fail("expected IllegalStateException");
+		} catch (final IllegalStateException e) {
+			assertTrue(e.getMessage().contains("EXPECTED_DIGIT"));
+		}
+	}
+
+	@Test
+	public void shouldReportFailuresOfIsoParser() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertFalse(IsoDateParser.parseDateInto("2010-13-01", 0, result));
+		assertEquals(ParseResult.Reason.FIELD_OUT_OF_RANGE, result.getReason());
+		assertEquals(5, result.getErrorIndex());
+		assertFalse(IsoDateParser.parseDateInto("2010-02-30", 0, result));
+		assertEquals(8, result.getErrorIndex());
+		assertFalse(IsoDateParser.parseDateTimeInto("2010-02-01T10:61:00", 0, result));
+		assertEquals(14, result.getErrorIndex());
+		assertFalse(IsoDateParser.parseDateTimeInto("2010-02-01 10:00:00", 0, result));
+		assertEquals(ParseResult.Reason.UNEXPECTED_CHARACTER, result.getReason());
+		assertEquals(10, result.getErrorIndex());
+		assertFalse(IsoDateParser.parseDateInto("2010-02", 0, result));
+		assertEquals(ParseResult.Reason.END_OF_INPUT, result.getReason());
+		assertEquals(7, result.getErrorIndex());
+	}
+
+	@Test
+	public void shouldHoldParsedDateTime() throws Exception {
+		final ParseResult result = new ParseResult();
+		assertTrue(LocalDateTime.parseDateTimeInto("2007-01-01T10:30:01", IsoDateParser.DATE_TIME_PATTERN, result));
+		assertEquals(LocalDateTime.at(2007, 1, 1, 10, 30, 1), result.toLocalDateTime());
+		assertTrue(LocalDateTime.parseDateTimeInto("20070101103001", "yyyyMMddHHmmss", result));
+		assertEquals(10 * 3600 + 30 * 60 + 1, result.getSecondOfDay());
+		assertFalse(LocalDateTime.parseDateTimeInto("hello", "yyyyMMddHHmmss", result));
+		assertEquals(ParseResult.Reason.UNPARSEABLE, result.getReason());
+		assertEquals(0, result.getErrorIndex());
+	}
+}
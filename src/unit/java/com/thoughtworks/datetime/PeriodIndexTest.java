@@ -0,0 +1,93 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PeriodIndexTest {
+	private static final FiniteLocalDate BASE = LocalDate.on(2010, 1, 1);
+
+	@Test
+	public void shouldFindOverlappingPeriods() throws Exception {
+		final PeriodIndex index = new PeriodIndex();
+		final Period january = Period.of(LocalDate.on(2010, 1, 1), LocalDate.on(2010, 1, 31));
+		final Period february = Period.of(LocalDate.on(2010, 2, 1), LocalDate.on(2010, 2, 28));
+		final Period fromMarch = Period.of(LocalDate.on(2010, 3, 1), LocalDate.infinite());
+		index.add(january);
+		index.add(february);
+		index.add(fromMarch);
+		assertEquals(3, index.size());
+		assertEquals(list(january, february), index.findOverlapping(Period.of(LocalDate.on(2010, 1, 31), LocalDate
+				.on(2010, 2, 1))));
+		assertEquals(list(fromMarch), index.findOverlapping(Period.of(LocalDate.on(2050, 1, 1), LocalDate.infinite())));
+		assertEquals(list(february), index.findContaining(LocalDate.on(2010, 2, 14)));
+		assertEquals(list(fromMarch), index.findContaining(LocalDate.infinite()));
+		assertTrue(index.findContaining(LocalDate.on(2009, 12, 31)).isEmpty());
+		assertFalse(index.isOverlapping(Period.of(LocalDate.on(2009, 1, 1), LocalDate.on(2009, 12, 31))));
+		assertTrue(index.isOverlapping(Period.of(LocalDate.on(2009, 1, 1), LocalDate.on(2010, 1, 1))));
+	}
+
+	@Test
+	public void shouldKeepEqualPeriodsUntilEachIsRemoved() throws Exception {
+		final PeriodIndex index = new PeriodIndex();
+		final Period period = Period.of(BASE, Duration.ofDays(7));
+		index.add(period);
+		index.add(Period.of(BASE, Duration.ofDays(7)));
+		assertEquals(2, index.findContaining(BASE).size());
+		assertTrue(index.remove(period));
+		assertEquals(1, index.findContaining(BASE).size());
+		assertTrue(index.remove(period));
+		assertFalse(index.remove(period));
+		assertTrue(index.isEmpty());
+	}
+
+	@Test
+	public void shouldMatchLinearScanAcrossInsertsAndRemoves() throws Exception {
+		final Random random = new Random(7);
+		final PeriodIndex index = new PeriodIndex();
+		final List<Period> periods = new ArrayList<Period>();
+		for (int i = 0; i < 3000; i++) {
+			final Period period = randomPeriod(random);
+			periods.add(period);
+			index.add(period);
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(index.remove(periods.remove(random.nextInt(periods.size()))));
+		}
+		assertEquals(periods.size(), index.size());
+		for (int i = 0; i < 300; i++) {
+			final Period query = randomPeriod(random);
+			final List<Period> expected = new ArrayList<Period>();
+			for (final Period period : periods) {
+				if (period.isOverlapping(query)) {
+					expected.add(period);
+				}
+			}
+			final List<Period> actual = index.findOverlapping(query);
+			assertEquals(expected.size(), actual.size());
+			assertEquals(new HashSet<Period>(expected), new HashSet<Period>(actual));
+			assertEquals(!expected.isEmpty(), index.isOverlapping(query));
+		}
+	}
+
+	private static Period randomPeriod(final Random random) {
+		final FiniteLocalDate start = BASE.plusDays(random.nextInt(2000));
+		if (random.nextInt(20) == 0) {
+			return Period.of(start, LocalDate.infinite());
+		}
+		return Period.of(start, Duration.ofDays(1 + random.nextInt(60)));
+	}
+
+	private static List<Period> list(final Period... periods) {
+		final List<Period> list = new ArrayList<Period>();
+		for (final Period period : periods) {
+			list.add(period);
+		}
+		return list;
+	}
+}
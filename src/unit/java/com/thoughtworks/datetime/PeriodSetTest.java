@@ -0,0 +1,115 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PeriodSetTest {
+	private static final FiniteLocalDate BASE = LocalDate.on(2010, 1, 1);
+
+	@Test
+	public void shouldMergeOverlappingAndAdjacentPeriods() throws Exception {
+		final PeriodSet set = PeriodSet.of(period(10, 20), period(0, 4), period(5, 8), period(15, 30));
+		assertEquals(2, set.size());
+		assertEquals(period(0, 8), set.getPeriods().get(0));
+		assertEquals(period(10, 30), set.getPeriods().get(1));
+	}
+
+	@Test
+	public void shouldHandleInfiniteEndDates() throws Exception {
+		final PeriodSet open = PeriodSet.of(Period.of(BASE.plusDays(10), LocalDate.infinite()));
+		final PeriodSet closed = PeriodSet.of(period(0, 20));
+		assertEquals(PeriodSet.of(Period.of(BASE, LocalDate.infinite())), open.union(closed));
+		assertEquals(PeriodSet.of(period(10, 20)), open.intersection(closed));
+		assertEquals(PeriodSet.of(Period.of(BASE.plusDays(21), LocalDate.infinite())), open.difference(closed));
+		assertEquals(PeriodSet.of(period(0, 9)), closed.difference(open));
+		assertEquals(PeriodSet.of(Period.of(BASE.plusDays(21), LocalDate.infinite())), closed.complement(Period.of(
+				BASE, LocalDate.infinite())));
+		assertTrue(open.contains(LocalDate.infinite()));
+		assertFalse(closed.contains(LocalDate.infinite()));
+	}
+
+	@Test
+	public void shouldIgnorePeriodsWithInfiniteStartDates() throws Exception {
+		assertTrue(PeriodSet.of(Period.of(LocalDate.infinite(), Duration.ofDays(3))).isEmpty());
+	}
+
+	@Test
+	public void shouldIgnoreEmptyPeriods() throws Exception {
+		final Period empty = Period.of(BASE.plusDays(2), Duration.ofDays(0));
+		assertTrue(PeriodSet.of(empty).isEmpty());
+		final PeriodSet set = PeriodSet.of(empty, period(5, 8));
+		assertEquals(1, set.size());
+		assertEquals(PeriodSet.of(period(5, 8)), set);
+		assertEquals(Arrays.asList(period(5, 8)), set.getPeriods());
+		assertNotNull(set.toString());
+	}
+
+	@Test
+	public void shouldMatchDayByDayOperations() throws Exception {
+		final Random random = new Random(11);
+		for (int round = 0; round < 200; round++) {
+			final List<Period> left = randomPeriods(random);
+			final List<Period> right = randomPeriods(random);
+			final PeriodSet leftSet = PeriodSet.of(left);
+			final PeriodSet rightSet = PeriodSet.of(right);
+			final Period bounds = period(random.nextInt(100), 100 + random.nextInt(300));
+			for (int day = -5; day < 420; day++) {
+				final FiniteLocalDate date = BASE.plusDays(day);
+				final boolean inLeft = contains(left, date);
+				final boolean inRight = contains(right, date);
+				assertEquals(inLeft, leftSet.contains(date));
+				assertEquals(inLeft || inRight, leftSet.union(rightSet).contains(date));
+				assertEquals(inLeft && inRight, leftSet.intersection(rightSet).contains(date));
+				assertEquals(inLeft && !inRight, leftSet.difference(rightSet).contains(date));
+				assertEquals(contains(bounds, date) && !inLeft, leftSet.complement(bounds).contains(date));
+			}
+			assertNormalized(leftSet.union(rightSet));
+			assertNormalized(leftSet.intersection(rightSet));
+			assertNormalized(leftSet.difference(rightSet));
+		}
+	}
+
+	private static void assertNormalized(final PeriodSet set) {
+		final List<Period> periods = set.getPeriods();
+		for (int i = 1; i < periods.size(); i++) {
+			assertTrue(periods.get(i - 1).getEndDate().plusDays(1).isBefore(periods.get(i).getStartDate()));
+		}
+	}
+
+	private static boolean contains(final List<Period> periods, final FiniteLocalDate date) {
+		for (final Period period : periods) {
+			if (contains(period, date)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final Period period, final FiniteLocalDate date) {
+		return date.isOnOrAfter(period.getStartDate()) && date.isOnOrBefore(period.getEndDate());
+	}
+
+	private static List<Period> randomPeriods(final Random random) {
+		final List<Period> periods = new ArrayList<Period>();
+		final int count = random.nextInt(12);
+		for (int i = 0; i < count; i++) {
+			final int start = random.nextInt(400);
+			if (random.nextInt(15) == 0) {
+				periods.add(Period.of(BASE.plusDays(start), LocalDate.infinite()));
+			} else {
+				periods.add(period(start, start + random.nextInt(40)));
+			}
+		}
+		return periods;
+	}
+
+	private static Period period(final int startDay, final int endDay) {
+		return Period.of(BASE.plusDays(startDay), BASE.plusDays(endDay));
+	}
+}
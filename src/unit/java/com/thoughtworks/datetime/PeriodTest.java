@@ -2,7 +2,10 @@ package com.thoughtworks.datetime;
 
 import static junit.framework.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
@@ -165,6 +168,59 @@ public class PeriodTest {
 		assertFalse(period.containsAll(dates));
 	}
 
+	@Test
+	public void shouldCheckLocalDateSetAgainstStartAndEndDates() throws Exception {
+		FiniteLocalDate today = LocalDate.today();
+		Period period = Period.of(today, today.plusDays(5));
+		LocalDateSet dates = new LocalDateSet();
+		assertTrue(period.containsAll(dates));
+		dates.add(today);
+		dates.add(today.plusDays(5));
+		assertTrue(period.containsAll(dates));
+		assertTrue(Period.of(today, LocalDate.infinite()).containsAll(dates));
+		assertFalse(Period.of(today.plusDays(1), LocalDate.infinite()).containsAll(dates));
+		assertFalse(Period.of(LocalDate.infinite(), Duration.infinite()).containsAll(dates));
+		dates.add(today.plusDays(6));
+		assertFalse(period.containsAll(dates));
+	}
+
+	@Test
+	public void shouldIterateDaysOfPeriod() throws Exception {
+		FiniteLocalDate start = LocalDate.on(2008, 2, 27);
+		PeriodDays days = Period.of(start, Duration.ofDays(4)).days();
+		assertEquals(4, days.size());
+		List<FiniteLocalDate> dates = new ArrayList<FiniteLocalDate>();
+		for (FiniteLocalDate date : days) {
+			dates.add(date);
+		}
+		assertEquals(Arrays.asList(start, LocalDate.on(2008, 2, 28), LocalDate.on(2008, 2, 29), LocalDate.on(2008,
+				3, 1)), dates);
+		PeriodDays.EpochDayIterator epochDays = days.epochDays();
+		for (FiniteLocalDate date : dates) {
+			assertEquals(date.toEpochDay(), epochDays.nextEpochDay());
+		}
+		assertFalse(epochDays.hasNext());
+	}
+
+	@Test
+	public void shouldSplitDaysOfPeriodIntoContiguousParts() throws Exception {
+		PeriodDays days = Period.of(LocalDate.on(2010, 1, 1), Duration.ofDays(10)).days();
+		List<PeriodDays> parts = days.split(3);
+		assertEquals(3, parts.size());
+		assertEquals(days.getFirstEpochDay(), parts.get(0).getFirstEpochDay());
+		assertEquals(parts.get(0).getLastEpochDay() + 1, parts.get(1).getFirstEpochDay());
+		assertEquals(parts.get(1).getLastEpochDay() + 1, parts.get(2).getFirstEpochDay());
+		assertEquals(days.getLastEpochDay(), parts.get(2).getLastEpochDay());
+		assertEquals(3, parts.get(0).size());
+		assertEquals(4, parts.get(2).size());
+		assertEquals(2, Period.of(LocalDate.on(2010, 1, 1), Duration.ofDays(2)).days().split(8).size());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldNotIterateDaysOfInfinitePeriod() throws Exception {
+		Period.of(LocalDate.today(), LocalDate.infinite()).days();
+	}
+
 	@Test
 	public void shouldHaveSameHashCodeIfEqual() throws Exception {
 		assertEquals(Period.of(LocalDate.today(), LocalDate.today()).hashCode(), Period.of(LocalDate.today(),
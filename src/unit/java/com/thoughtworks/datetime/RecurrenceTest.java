@@ -0,0 +1,99 @@
+package com.thoughtworks.datetime;
+
+import static junit.framework.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.thoughtworks.datetime.Date.Day;
+
+public class RecurrenceTest {
+	private static final FiniteLocalDate START = LocalDate.on(2008, 1, 31);
+	private static final Period TWO_YEARS = Period.of(START, LocalDate.on(2009, 12, 31));
+
+	@Test
+	public void shouldRecurDaily() throws Exception {
+		final Recurrence recurrence = Recurrence.daily(Period.of(START, Duration.ofDays(3)));
+		assertEquals(Arrays.asList(START, START.plusDays(1), START.plusDays(2)), list(recurrence));
+		assertEquals(Arrays.asList(START, START.plusDays(3), START.plusDays(6)), list(Recurrence.daily(
+				Period.of(START, Duration.ofDays(7))).every(3)));
+	}
+
+	@Test
+	public void shouldRecurWeeklyOnGivenDays() throws Exception {
+		final Recurrence recurrence = Recurrence.weekly(Period.of(START, Duration.ofDays(14)), Day.MONDAY,
+				Day.THURSDAY);
+		assertEquals(Arrays.asList(START, LocalDate.on(2008, 2, 4), LocalDate.on(2008, 2, 7), LocalDate.on(2008, 2,
+				11)), list(recurrence));
+		assertEquals(Arrays.asList(START, LocalDate.on(2008, 2, 11)), list(Recurrence.weekly(
+				Period.of(START, Duration.ofDays(14)), Day.MONDAY, Day.THURSDAY).every(2)));
+	}
+
+	@Test
+	public void shouldRecurMonthlyOnDayClampedToEndOfMonth() throws Exception {
+		final List<FiniteLocalDate> dates = list(Recurrence.monthlyOnDay(Period.of(START, Duration.ofDays(100)), 30));
+		assertEquals(Arrays.asList(LocalDate.on(2008, 2, 29), LocalDate.on(2008, 3, 30), LocalDate.on(2008, 4, 30)),
+				dates);
+	}
+
+	@Test
+	public void shouldRecurOnLastDayOfMonth() throws Exception {
+		for (final FiniteLocalDate date : Recurrence.monthlyOnLastDay(TWO_YEARS)) {
+			assertTrue(date.isLastDayOfMonth());
+		}
+		assertEquals(24, list(Recurrence.monthlyOnLastDay(TWO_YEARS)).size());
+	}
+
+	@Test
+	public void shouldRecurYearlyLikePlusMonths() throws Exception {
+		final FiniteLocalDate leapDay = LocalDate.on(2008, 2, 29);
+		final List<FiniteLocalDate> dates = list(Recurrence.yearly(Period.of(leapDay, LocalDate.on(2013, 1, 1))));
+		assertEquals(Arrays.asList(leapDay, leapDay.plusMonths(12), leapDay.plusMonths(24), leapDay.plusMonths(36),
+				leapDay.plusMonths(48)), dates);
+		assertEquals(LocalDate.on(2012, 2, 29), dates.get(4));
+	}
+
+	@Test
+	public void shouldFindNextOccurrenceWithoutWalkingEarlierOnes() throws Exception {
+		final Recurrence[] recurrences = { Recurrence.daily(TWO_YEARS).every(5),
+				Recurrence.weekly(TWO_YEARS, Day.TUESDAY, Day.SATURDAY, Day.SUNDAY).every(3),
+				Recurrence.monthlyOnDay(TWO_YEARS, 29).every(2), Recurrence.monthlyOnLastDay(TWO_YEARS),
+				Recurrence.yearly(TWO_YEARS) };
+		for (final Recurrence recurrence : recurrences) {
+			final List<FiniteLocalDate> dates = list(recurrence);
+			int index = 0;
+			for (FiniteLocalDate date = START.minusDays(10); date.isBefore(LocalDate.on(2010, 1, 10)); date = date
+					.plusDays(1)) {
+				while (index < dates.size() && dates.get(index).isBefore(date)) {
+					index++;
+				}
+				final LocalDate expected = index < dates.size() ? dates.get(index) : LocalDate.infinite();
+				assertEquals(expected, recurrence.nextOnOrAfter(date));
+			}
+		}
+	}
+
+	@Test
+	public void shouldRecurWithoutEndInOpenEndedPeriod() throws Exception {
+		final Recurrence recurrence = Recurrence.monthlyOnLastDay(Period.of(START, LocalDate.infinite()));
+		assertEquals(LocalDate.on(2510, 6, 30), recurrence.nextOnOrAfter(LocalDate.on(2510, 6, 12)));
+		final Iterator<FiniteLocalDate> iterator = recurrence.iterator();
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(iterator.hasNext());
+			iterator.next();
+		}
+		assertEquals(LocalDate.infinite(), recurrence.nextOnOrAfter(LocalDate.infinite()));
+	}
+
+	private static List<FiniteLocalDate> list(final Recurrence recurrence) {
+		final List<FiniteLocalDate> dates = new ArrayList<FiniteLocalDate>();
+		for (final FiniteLocalDate date : recurrence) {
+			dates.add(date);
+		}
+		return dates;
+	}
+}